@@ -1,6 +1,7 @@
 package com.SupplyChainMngmt.com.InventoryService.InventoryService.config;
 
 import com.SupplyChainMngmt.com.InventoryService.InventoryService.events.InventoryEvent;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.events.ReservationEvent;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -36,4 +37,20 @@ public class KafkaProducerConfig {
     public KafkaTemplate<String, InventoryEvent> inventoryEventKafkaTemplate(){
         return new KafkaTemplate<>(inventoryEventProducerFactory());
     }
+
+    @Bean
+    public ProducerFactory<String, ReservationEvent> reservationEventProducerFactory(){
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+
+        config.put("spring.json.add.type.headers", false);
+        return new DefaultKafkaProducerFactory<>(config);
+    }
+
+    @Bean
+    public KafkaTemplate<String, ReservationEvent> reservationEventKafkaTemplate(){
+        return new KafkaTemplate<>(reservationEventProducerFactory());
+    }
 }
@@ -2,13 +2,23 @@ package com.SupplyChainMngmt.com.InventoryService.InventoryService.controllers;
 
 import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.request.AdjustStockRequest;
 import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.request.InventoryItemRequest;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.request.StockAdjustmentRequest;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response.BatchAdjustStockResponse;
 import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response.InventoryItemResponse;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response.InventoryPageResponse;
 import com.SupplyChainMngmt.com.InventoryService.InventoryService.services.InventoryService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.ws.rs.Path;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -17,6 +27,7 @@ import java.util.List;
 public class InventoryController {
 
     private final InventoryService inventoryService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<InventoryItemResponse> createInventory(@RequestBody InventoryItemRequest request){
@@ -24,12 +35,47 @@ public class InventoryController {
         return  ResponseEntity.ok(response);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<InventoryItemResponse>> createInventoryBatch(@RequestBody List<InventoryItemRequest> requests){
+        List<InventoryItemResponse> response = inventoryService.createOrUpdateBatch(requests);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping
-    public ResponseEntity<List<InventoryItemResponse>> getAllInventory(){
-        List<InventoryItemResponse> response = inventoryService.getAll();
+    public ResponseEntity<StreamingResponseBody> getAllInventory(@RequestParam(required = false) String skuPrefix,
+                                                                 @RequestParam(required = false) String warehouseId){
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartArray();
+                inventoryService.streamAll(skuPrefix, warehouseId, item -> writeValue(generator, item));
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<InventoryPageResponse> getInventoryPage(@RequestParam(required = false) Long after,
+                                                                  @RequestParam(required = false) Integer limit,
+                                                                  @RequestParam(required = false) String skuPrefix,
+                                                                  @RequestParam(required = false) String warehouseId){
+        InventoryPageResponse response = inventoryService.getPage(after, limit, skuPrefix, warehouseId);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamInventory(@RequestParam(required = false) String skuPrefix,
+                                                                 @RequestParam(required = false) String warehouseId){
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(new SerializedString("\n"));
+                inventoryService.streamAll(skuPrefix, warehouseId, item -> writeValue(generator, item));
+                generator.writeRaw('\n');
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("/item/{id}")
     public ResponseEntity<InventoryItemResponse> getInventoryById(@PathVariable Long id){
         InventoryItemResponse response = inventoryService.getById(id);
@@ -54,6 +100,12 @@ public class InventoryController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping("/adjustStock/batch")
+    public ResponseEntity<BatchAdjustStockResponse> adjustStockBatchHandler(@RequestBody List<StockAdjustmentRequest> requests){
+        BatchAdjustStockResponse response = inventoryService.adjustStockBatch(requests);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}/threshold")
     public ResponseEntity<InventoryItemResponse> updateThresholdHandler(@PathVariable Long id, @RequestBody Integer threshold){
         InventoryItemResponse response = inventoryService.updateThreshold(id,threshold);
@@ -66,4 +118,11 @@ public class InventoryController {
         return ResponseEntity.noContent().build();
     }
 
+    private void writeValue(JsonGenerator generator, InventoryItemResponse item) {
+        try {
+            generator.writeObject(item);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
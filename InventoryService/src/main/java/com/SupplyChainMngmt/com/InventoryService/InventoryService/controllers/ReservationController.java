@@ -0,0 +1,42 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.controllers;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.request.ReserveStockRequest;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response.ReservationResponse;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.services.ReservationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/inventory/reservations")
+@RequiredArgsConstructor
+public class ReservationController {
+
+    private final ReservationService reservationService;
+
+    @PostMapping
+    public ResponseEntity<ReservationResponse> reserveStock(@RequestBody ReserveStockRequest request){
+        ReservationResponse response = reservationService.reserve(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/order/{orderId}")
+    public ResponseEntity<List<ReservationResponse>> getReservationsByOrder(@PathVariable Long orderId){
+        List<ReservationResponse> response = reservationService.getByOrder(orderId);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/order/{orderId}/commit")
+    public ResponseEntity<List<ReservationResponse>> commitReservations(@PathVariable Long orderId){
+        List<ReservationResponse> response = reservationService.commit(orderId);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/order/{orderId}/release")
+    public ResponseEntity<List<ReservationResponse>> releaseReservations(@PathVariable Long orderId){
+        List<ReservationResponse> response = reservationService.release(orderId);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,12 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.request;
+
+import lombok.Data;
+
+@Data
+public class ReserveStockRequest {
+    private Long orderId;
+    private String sku;
+    private String warehouseId;
+    private Integer quantity;
+    private Long ttlSeconds;
+}
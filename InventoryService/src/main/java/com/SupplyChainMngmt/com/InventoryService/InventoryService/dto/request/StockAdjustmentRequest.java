@@ -0,0 +1,9 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.request;
+
+import lombok.Data;
+
+@Data
+public class StockAdjustmentRequest {
+    private Long id;
+    private Integer delta;
+}
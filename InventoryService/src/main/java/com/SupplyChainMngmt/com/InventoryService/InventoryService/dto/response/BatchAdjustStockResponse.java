@@ -0,0 +1,14 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BatchAdjustStockResponse {
+    private List<InventoryItemResponse> updated;
+    private List<Long> rejectedIds;
+    private List<Long> notFoundIds;
+}
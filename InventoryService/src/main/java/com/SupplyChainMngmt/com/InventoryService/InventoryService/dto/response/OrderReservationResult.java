@@ -0,0 +1,16 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class OrderReservationResult {
+    private Long orderId;
+    private boolean reserved;
+    private boolean duplicate;
+    private List<ReservationResponse> reservations;
+    private String reason;
+}
@@ -0,0 +1,19 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.type.ReservationStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+public class ReservationResponse {
+    private String reservationId;
+    private Long orderId;
+    private String sku;
+    private String warehouseId;
+    private Integer quantity;
+    private ReservationStatus status;
+    private Instant expiresAt;
+}
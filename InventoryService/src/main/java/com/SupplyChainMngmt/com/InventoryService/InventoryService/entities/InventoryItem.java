@@ -2,10 +2,14 @@ package com.SupplyChainMngmt.com.InventoryService.InventoryService.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
 
 @Entity
+@Table(name = "inventory_item",
+        uniqueConstraints = @UniqueConstraint(name = "uk_inventory_item_sku_warehouse", columnNames = {"sku", "warehouse_id"}),
+        indexes = @Index(name = "idx_inventory_item_low_stock_flag", columnList = "low_stock"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,9 +39,20 @@ public class InventoryItem {
     @Column(name = "threshold", nullable = false)
     private Integer threshold = 0;
 
+    // Maintained by MySQL so the low-stock scan is an index lookup instead of a column-to-column
+    // comparison over every row.
+    @Column(name = "low_stock", insertable = false, updatable = false,
+            columnDefinition = "tinyint(1) generated always as (available_qty <= threshold) stored")
+    private Boolean lowStock;
+
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @PrePersist
     public void prePersist() {
         this.updatedAt = Instant.now();
@@ -0,0 +1,8 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.type;
+
+public enum ReservationStatus {
+    HELD,
+    COMMITTED,
+    RELEASED,
+    EXPIRED
+}
@@ -0,0 +1,48 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.events;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.services.cache.InventoryCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Keeps the inventory cache coherent across replicas. Every instance consumes inventory.events in
+ * its own consumer group and drops entries changed by other instances.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryCacheInvalidationListener {
+
+    private final InventoryCache inventoryCache;
+    private final InventoryEventPublisher inventoryEventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${app.topics.inventory-events:inventory.events}",
+            groupId = "${spring.application.name}-cache-${random.uuid}",
+            containerFactory = "batchListenerContainerFactory",
+            properties = "auto.offset.reset=latest")
+    public void onInventoryEvents(@Payload List<String> messages){
+        for (String message : messages) {
+            try {
+                JsonNode node = objectMapper.readTree(message);
+                if (inventoryEventPublisher.getInstanceId().equals(node.path("sourceInstance").asText(null))) {
+                    continue;
+                }
+                String sku = node.path("sku").asText(null);
+                String warehouseId = node.path("warehouseId").asText(null);
+                if (sku != null && warehouseId != null) {
+                    inventoryCache.invalidate(sku, warehouseId);
+                }
+            } catch (Exception e) {
+                log.warn("Skipping unreadable inventory event: {}", message, e);
+            }
+        }
+    }
+}
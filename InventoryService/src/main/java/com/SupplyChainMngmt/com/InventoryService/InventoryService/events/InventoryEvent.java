@@ -20,4 +20,5 @@ public class InventoryEvent {
 
     private Instant updatedAt;
     private Instant eventTime;
+    private String sourceInstance;
 }
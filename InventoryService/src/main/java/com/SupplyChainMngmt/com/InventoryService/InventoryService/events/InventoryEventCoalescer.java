@@ -0,0 +1,71 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.events;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps only the latest STOCK_UPDATED snapshot per sku:warehouseId key and publishes it once per
+ * window. Records are keyed the same way, so per-key ordering on the topic is unchanged and
+ * consumers always end on the newest snapshot.
+ */
+@Component
+public class InventoryEventCoalescer {
+
+    private final KafkaTemplate<String, InventoryEvent> kafkaTemplate;
+    private final ConcurrentHashMap<String, InventoryEvent> pending = new ConcurrentHashMap<>();
+    private final Counter coalescedCounter;
+    private final Counter sentCounter;
+
+    @Value("${app.topics.inventory-events:inventory.events}")
+    private String inventoryEventsTopic;
+
+    public InventoryEventCoalescer(KafkaTemplate<String, InventoryEvent> kafkaTemplate, MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.coalescedCounter = Counter.builder("inventory.events.coalesced")
+                .description("STOCK_UPDATED snapshots replaced by a newer one before publishing")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("inventory.events.sent")
+                .description("STOCK_UPDATED snapshots published after coalescing")
+                .register(meterRegistry);
+    }
+
+    public void offer(String key, InventoryEvent event) {
+        boolean[] replaced = new boolean[1];
+        pending.merge(key, event, (current, incoming) -> {
+            replaced[0] = true;
+            return isOlder(incoming, current) ? current : incoming;
+        });
+        if (replaced[0]) {
+            coalescedCounter.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.inventory.events.coalesce-window-ms:50}")
+    public void flush() {
+        for (String key : pending.keySet()) {
+            InventoryEvent event = pending.remove(key);
+            if (event != null) {
+                kafkaTemplate.send(inventoryEventsTopic, key, event);
+                sentCounter.increment();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        kafkaTemplate.flush();
+    }
+
+    private boolean isOlder(InventoryEvent incoming, InventoryEvent current) {
+        return incoming.getUpdatedAt() != null && current.getUpdatedAt() != null
+                && incoming.getUpdatedAt().isBefore(current.getUpdatedAt());
+    }
+}
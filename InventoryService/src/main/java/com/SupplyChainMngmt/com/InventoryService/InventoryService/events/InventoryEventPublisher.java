@@ -1,6 +1,7 @@
 package com.SupplyChainMngmt.com.InventoryService.InventoryService.events;
 
 import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.InventoryItem;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -13,10 +14,18 @@ import java.time.Instant;
 public class InventoryEventPublisher {
 
     private final KafkaTemplate<String, InventoryEvent> kafkaTemplate;
+    private final InventoryEventCoalescer inventoryEventCoalescer;
 
     @Value("${app.topics.inventory-events:inventory.events}")
     private String inventoryEventsTopic;
 
+    @Getter
+    @Value("${app.instance-id:${random.uuid}}")
+    private String instanceId;
+
+    @Value("${app.inventory.events.coalesce:true}")
+    private boolean coalesce;
+
     public void publishStockUpdated(InventoryItem item){
         InventoryEvent event = InventoryEvent.builder()
                 .eventType("STOCK_UPDATED")
@@ -29,10 +38,15 @@ public class InventoryEventPublisher {
                 .threshold(item.getThreshold())
                 .updatedAt(item.getUpdatedAt())
                 .eventTime(Instant.now())
+                .sourceInstance(instanceId)
                 .build();
 
         String key = item.getSku() + ":" + item.getWarehouseId();
-        kafkaTemplate.send(inventoryEventsTopic, key, event);
+        if (coalesce) {
+            inventoryEventCoalescer.offer(key, event);
+        } else {
+            kafkaTemplate.send(inventoryEventsTopic, key, event);
+        }
     }
 
     public void publishLowStock(InventoryItem item){
@@ -47,6 +61,7 @@ public class InventoryEventPublisher {
                 .threshold(item.getThreshold())
                 .updatedAt(item.getUpdatedAt())
                 .eventTime(Instant.now())
+                .sourceInstance(instanceId)
                 .build();
 
         String key = item.getSku()+ ":" + item.getWarehouseId();
@@ -0,0 +1,29 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.events;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Consumer-side view of the events OrderService publishes to order.events; only the fields
+ * needed for stock reservation are mapped.
+ */
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OrderEvent {
+    private String eventType;
+    private Long orderId;
+    private String status;
+    private List<OrderItemSummary> items;
+
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class OrderItemSummary {
+        private String sku;
+        private Integer quantity;
+    }
+}
@@ -0,0 +1,104 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.events;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.request.ReserveStockRequest;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response.OrderReservationResult;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.exceptions.ResourceNotFoundException;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.services.ReservationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reserves stock for new orders and settles reservations when orders move on. Records are handled
+ * a whole poll at a time so reservations for the same SKU are coalesced across orders. Settlements
+ * are applied after the poll's reservations, so an order created and cancelled or shipped within
+ * the same poll releases or commits the stock it just reserved. Hold rows are written before
+ * reserveOrders returns, so a batch redelivered after a crash sees its orders as already reserved.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderEventListener {
+
+    private final ReservationService reservationService;
+    private final ReservationEventPublisher reservationEventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.inventory.reservation.default-warehouse-id:WH-1}")
+    private String defaultWarehouseId;
+
+    @KafkaListener(topics = "${app.topics.order-events:order.events}",
+            groupId = "${spring.kafka.consumer.group-id:inventory-service-group}",
+            containerFactory = "batchListenerContainerFactory")
+    public void onOrderEvents(@Payload List<String> messages){
+        Map<Long, List<ReserveStockRequest>> created = new LinkedHashMap<>();
+        List<OrderEvent> settlements = new ArrayList<>();
+        for (String message : messages) {
+            OrderEvent event = parse(message);
+            if (event == null || event.getOrderId() == null) {
+                continue;
+            }
+            if ("ORDER_CREATED".equals(event.getEventType())) {
+                created.putIfAbsent(event.getOrderId(), toLines(event));
+            } else if ("ORDER_STATUS_UPDATED".equals(event.getEventType())) {
+                settlements.add(event);
+            }
+        }
+
+        if (!created.isEmpty()) {
+            for (OrderReservationResult result : reservationService.reserveOrders(created)) {
+                if (!result.isDuplicate()) {
+                    reservationEventPublisher.publishReservationResult(result);
+                }
+            }
+        }
+        settlements.forEach(this::settle);
+    }
+
+    private void settle(OrderEvent event) {
+        try {
+            if ("CANCELLED".equals(event.getStatus())) {
+                reservationService.release(event.getOrderId());
+            } else if ("SHIPPED".equals(event.getStatus()) || "DELIVERED".equals(event.getStatus())) {
+                // An order can reach DELIVERED without a SHIPPED event; committing twice is a no-op.
+                reservationService.commit(event.getOrderId());
+            }
+        } catch (ResourceNotFoundException e) {
+            log.debug("No reservations to settle for order {}", event.getOrderId());
+        }
+    }
+
+    private List<ReserveStockRequest> toLines(OrderEvent event) {
+        List<ReserveStockRequest> lines = new ArrayList<>();
+        if (event.getItems() == null) {
+            return lines;
+        }
+        for (OrderEvent.OrderItemSummary item : event.getItems()) {
+            ReserveStockRequest line = new ReserveStockRequest();
+            line.setOrderId(event.getOrderId());
+            line.setSku(item.getSku());
+            line.setWarehouseId(defaultWarehouseId);
+            line.setQuantity(item.getQuantity());
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    private OrderEvent parse(String message) {
+        try {
+            return objectMapper.readValue(message, OrderEvent.class);
+        } catch (Exception e) {
+            log.warn("Skipping unreadable order event: {}", message, e);
+            return null;
+        }
+    }
+}
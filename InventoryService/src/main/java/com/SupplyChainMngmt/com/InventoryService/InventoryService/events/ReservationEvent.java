@@ -0,0 +1,18 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.events;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response.ReservationResponse;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+public class ReservationEvent {
+    private String eventType;
+    private Long orderId;
+    private List<ReservationResponse> reservations;
+    private String reason;
+    private Instant eventTime;
+}
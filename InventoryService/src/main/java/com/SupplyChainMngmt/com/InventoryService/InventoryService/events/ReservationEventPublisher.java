@@ -0,0 +1,31 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.events;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response.OrderReservationResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+@Service
+@RequiredArgsConstructor
+public class ReservationEventPublisher {
+
+    private final KafkaTemplate<String, ReservationEvent> kafkaTemplate;
+
+    @Value("${app.topics.reservation-events:inventory.reservation.events}")
+    private String reservationEventsTopic;
+
+    public void publishReservationResult(OrderReservationResult result){
+        ReservationEvent event = ReservationEvent.builder()
+                .eventType(result.isReserved() ? "STOCK_RESERVED" : "STOCK_RESERVATION_REJECTED")
+                .orderId(result.getOrderId())
+                .reservations(result.getReservations())
+                .reason(result.getReason())
+                .eventTime(Instant.now())
+                .build();
+
+        kafkaTemplate.send(reservationEventsTopic, String.valueOf(result.getOrderId()), event);
+    }
+}
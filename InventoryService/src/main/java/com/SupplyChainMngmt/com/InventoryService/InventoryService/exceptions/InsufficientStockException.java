@@ -0,0 +1,7 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.exceptions;
+
+public class InsufficientStockException extends IllegalArgumentException {
+    public InsufficientStockException(String message) {
+        super(message);
+    }
+}
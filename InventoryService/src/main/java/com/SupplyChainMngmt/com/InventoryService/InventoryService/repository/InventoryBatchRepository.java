@@ -0,0 +1,82 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.repository;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.request.InventoryItemRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain JDBC statements for the write paths. Inventory ids use IDENTITY generation, which disables
+ * Hibernate insert batching, so upserts and stock deltas go through JdbcTemplate. Upserts rely on
+ * the unique (sku, warehouse_id) key, so concurrent creators of the same row never race.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryBatchRepository {
+
+    private static final String UPSERT_SQL =
+            "insert into inventory_item (sku, warehouse_id, available_qty, reserved_qty, incoming_qty, threshold, updated_at, version) " +
+            "values (?, ?, ?, ?, ?, ?, ?, 0) " +
+            "on duplicate key update available_qty = coalesce(?, available_qty), reserved_qty = coalesce(?, reserved_qty), " +
+            "incoming_qty = coalesce(?, incoming_qty), threshold = coalesce(?, threshold), " +
+            "updated_at = values(updated_at), version = version + 1";
+
+    private static final String ADJUST_SQL =
+            "update inventory_item set available_qty = available_qty + ?, updated_at = ?, version = version + 1 " +
+            "where id = ? and available_qty + ? >= 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsert(InventoryItemRequest request, Instant now) {
+        jdbcTemplate.update(UPSERT_SQL, ps -> bindUpsert(ps, request, Timestamp.from(now)));
+    }
+
+    public void upsertAll(List<InventoryItemRequest> requests, Instant now) {
+        Timestamp updatedAt = Timestamp.from(now);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, requests, 500, (ps, request) -> bindUpsert(ps, request, updatedAt));
+    }
+
+    /**
+     * Applies each (id, delta) pair with a conditional update and returns the number of rows
+     * changed per entry, in iteration order. A zero means the row is missing or would go negative.
+     */
+    public int[] adjustAvailable(List<Map.Entry<Long, Integer>> deltas, Instant now) {
+        Timestamp updatedAt = Timestamp.from(now);
+        int[][] counts = jdbcTemplate.batchUpdate(ADJUST_SQL, deltas, 500, (ps, entry) -> {
+            ps.setInt(1, entry.getValue());
+            ps.setTimestamp(2, updatedAt);
+            ps.setLong(3, entry.getKey());
+            ps.setInt(4, entry.getValue());
+        });
+        int[] result = new int[deltas.size()];
+        int i = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                result[i++] = count;
+            }
+        }
+        return result;
+    }
+
+    private void bindUpsert(PreparedStatement ps, InventoryItemRequest request, Timestamp updatedAt) throws SQLException {
+        ps.setString(1, request.getSku());
+        ps.setString(2, request.getWarehouseId());
+        ps.setInt(3, request.getAvailableQty() == null ? 0 : request.getAvailableQty());
+        ps.setInt(4, request.getReservedQty() == null ? 0 : request.getReservedQty());
+        ps.setInt(5, request.getIncomingQty() == null ? 0 : request.getIncomingQty());
+        ps.setInt(6, request.getThreshold() == null ? 0 : request.getThreshold());
+        ps.setTimestamp(7, updatedAt);
+        ps.setObject(8, request.getAvailableQty(), Types.INTEGER);
+        ps.setObject(9, request.getReservedQty(), Types.INTEGER);
+        ps.setObject(10, request.getIncomingQty(), Types.INTEGER);
+        ps.setObject(11, request.getThreshold(), Types.INTEGER);
+    }
+}
@@ -1,12 +1,62 @@
 package com.SupplyChainMngmt.com.InventoryService.InventoryService.repository;
 
 import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.InventoryItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface InventoryRepository extends JpaRepository<InventoryItem, Long> {
     List<InventoryItem> findBySku(String sku);
     Optional<InventoryItem> findBySkuAndWarehouseId(String sku, String warehouseId);
+    List<InventoryItem> findBySkuIn(Collection<String> skus);
+
+    @Query("select i from InventoryItem i where i.id > :after " +
+            "and (:skuPrefix is null or i.sku like concat(:skuPrefix, '%')) " +
+            "and (:warehouseId is null or i.warehouseId = :warehouseId) order by i.id")
+    List<InventoryItem> findPage(@Param("after") long after,
+                                 @Param("skuPrefix") String skuPrefix,
+                                 @Param("warehouseId") String warehouseId,
+                                 Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select i from InventoryItem i where (:skuPrefix is null or i.sku like concat(:skuPrefix, '%')) " +
+            "and (:warehouseId is null or i.warehouseId = :warehouseId) order by i.id")
+    Stream<InventoryItem> streamAll(@Param("skuPrefix") String skuPrefix,
+                                    @Param("warehouseId") String warehouseId);
+
+    @Query("select i from InventoryItem i where i.lowStock = true")
+    List<InventoryItem> findLowStock();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update versioned InventoryItem i set i.availableQty = i.availableQty + :delta, i.updatedAt = :updatedAt " +
+            "where i.id = :id and i.availableQty + :delta >= 0")
+    int adjustAvailableIfNonNegative(@Param("id") Long id,
+                                     @Param("delta") int delta,
+                                     @Param("updatedAt") Instant updatedAt);
+
+    // Like adjustAvailableIfNonNegative, a zero result means the row is missing or a counter would go negative.
+    @Modifying
+    @Query("update versioned InventoryItem i set i.availableQty = i.availableQty + :available, " +
+            "i.reservedQty = i.reservedQty + :reserved, i.incomingQty = i.incomingQty + :incoming, " +
+            "i.updatedAt = :updatedAt where i.id = :id and i.availableQty + :available >= 0 " +
+            "and i.reservedQty + :reserved >= 0 and i.incomingQty + :incoming >= 0")
+    int applyStockDelta(@Param("id") Long id,
+                        @Param("available") int available,
+                        @Param("reserved") int reserved,
+                        @Param("incoming") int incoming,
+                        @Param("updatedAt") Instant updatedAt);
 }
@@ -0,0 +1,42 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.repository;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.StockReservation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ReservationBatchRepository {
+
+    private static final String UPSERT_SQL =
+            "insert into stock_reservation (id, order_id, sku, warehouse_id, quantity, status, expires_at, created_at, updated_at) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "on duplicate key update quantity = values(quantity), status = values(status), " +
+            "expires_at = values(expires_at), updated_at = values(updated_at)";
+
+    private static final String DELETE_SQL = "delete from stock_reservation where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsertAll(List<StockReservation> reservations) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, reservations, 500, (ps, reservation) -> {
+            ps.setString(1, reservation.getId());
+            ps.setLong(2, reservation.getOrderId());
+            ps.setString(3, reservation.getSku());
+            ps.setString(4, reservation.getWarehouseId());
+            ps.setInt(5, reservation.getQuantity());
+            ps.setString(6, reservation.getStatus().name());
+            ps.setTimestamp(7, Timestamp.from(reservation.getExpiresAt()));
+            ps.setTimestamp(8, Timestamp.from(reservation.getCreatedAt()));
+            ps.setTimestamp(9, Timestamp.from(reservation.getUpdatedAt()));
+        });
+    }
+
+    public void deleteAll(List<String> ids) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, ids, 500, (ps, id) -> ps.setString(1, id));
+    }
+}
@@ -0,0 +1,17 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.repository;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.StockReservation;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.type.ReservationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, String> {
+    List<StockReservation> findByStatus(ReservationStatus status);
+
+    @Query("select distinct r.orderId from StockReservation r where r.orderId in :orderIds")
+    List<Long> findReservedOrderIds(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -2,16 +2,24 @@ package com.SupplyChainMngmt.com.InventoryService.InventoryService.services;
 
 import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.request.AdjustStockRequest;
 import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.request.InventoryItemRequest;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.request.StockAdjustmentRequest;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response.BatchAdjustStockResponse;
 import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response.InventoryItemResponse;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response.InventoryPageResponse;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface InventoryService {
     InventoryItemResponse createOrUpdate(InventoryItemRequest request);
 
+    List<InventoryItemResponse> createOrUpdateBatch(List<InventoryItemRequest> requests);
+
     InventoryItemResponse getById(Long id);
 
-    List<InventoryItemResponse> getAll();
+    InventoryPageResponse getPage(Long after, Integer limit, String skuPrefix, String warehouseId);
+
+    void streamAll(String skuPrefix, String warehouseId, Consumer<InventoryItemResponse> sink);
 
     List<InventoryItemResponse> getBySku(String sku);
 
@@ -19,6 +27,8 @@ public interface InventoryService {
 
     InventoryItemResponse adjustStock(Long id, AdjustStockRequest request);
 
+    BatchAdjustStockResponse adjustStockBatch(List<StockAdjustmentRequest> requests);
+
     InventoryItemResponse updateThreshold(Long id, Integer threshold);
 
     void delete(Long id);
@@ -0,0 +1,21 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.services;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.request.ReserveStockRequest;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response.OrderReservationResult;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response.ReservationResponse;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ReservationService {
+
+    ReservationResponse reserve(ReserveStockRequest request);
+
+    List<OrderReservationResult> reserveOrders(Map<Long, List<ReserveStockRequest>> linesByOrder);
+
+    List<ReservationResponse> getByOrder(Long orderId);
+
+    List<ReservationResponse> commit(Long orderId);
+
+    List<ReservationResponse> release(Long orderId);
+}
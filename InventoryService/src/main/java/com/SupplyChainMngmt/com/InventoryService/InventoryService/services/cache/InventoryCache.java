@@ -0,0 +1,112 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.services.cache;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response.InventoryItemResponse;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.InventoryItem;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded read-through cache for the SKU lookups. Writers update the (sku, warehouseId) entry in
+ * place and drop the per-SKU list; transactional writers do so only once they commit. Other
+ * replicas invalidate through inventory.events.
+ */
+@Component
+public class InventoryCache {
+
+    private final Cache<String, InventoryItemResponse> bySkuAndWarehouse;
+    private final Cache<String, List<InventoryItemResponse>> bySku;
+
+    public InventoryCache(MeterRegistry meterRegistry,
+                          @Value("${app.inventory.cache.max-size:100000}") long maxSize,
+                          @Value("${app.inventory.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.bySkuAndWarehouse = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.bySku = Caffeine.newBuilder()
+                .maximumSize(Math.max(1, maxSize / 10))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, bySkuAndWarehouse, "inventory.bySkuAndWarehouse");
+        CaffeineCacheMetrics.monitor(meterRegistry, bySku, "inventory.bySku");
+    }
+
+    public static String key(String sku, String warehouseId) {
+        return sku + ":" + warehouseId;
+    }
+
+    public Optional<InventoryItemResponse> getBySkuAndWarehouse(String sku, String warehouseId,
+                                                                Supplier<Optional<InventoryItem>> loader) {
+        return Optional.ofNullable(bySkuAndWarehouse.get(key(sku, warehouseId),
+                k -> loader.get().map(this::mapToResponse).orElse(null)));
+    }
+
+    public List<InventoryItemResponse> getBySku(String sku, Function<String, List<InventoryItem>> loader) {
+        return bySku.get(sku, k -> loader.apply(k).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toUnmodifiableList()));
+    }
+
+    public void put(InventoryItem item) {
+        bySkuAndWarehouse.put(key(item.getSku(), item.getWarehouseId()), mapToResponse(item));
+        bySku.invalidate(item.getSku());
+    }
+
+    public void putAfterCommit(InventoryItem item) {
+        InventoryItemResponse response = mapToResponse(item);
+        afterCommit(() -> {
+            bySkuAndWarehouse.put(key(response.getSku(), response.getWarehouseId()), response);
+            bySku.invalidate(response.getSku());
+        });
+    }
+
+    public void invalidate(String sku, String warehouseId) {
+        bySkuAndWarehouse.invalidate(key(sku, warehouseId));
+        bySku.invalidate(sku);
+    }
+
+    public void invalidateAfterCommit(String sku, String warehouseId) {
+        afterCommit(() -> invalidate(sku, warehouseId));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private InventoryItemResponse mapToResponse(InventoryItem item) {
+        return InventoryItemResponse.builder()
+                .id(item.getId())
+                .sku(item.getSku())
+                .warehouseId(item.getWarehouseId())
+                .availableQty(item.getAvailableQty())
+                .reservedQty(item.getReservedQty())
+                .incomingQty(item.getIncomingQty())
+                .threshold(item.getThreshold())
+                .updatedAt(item.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,353 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.services.impl;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.request.ReserveStockRequest;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response.OrderReservationResult;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response.ReservationResponse;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.InventoryItem;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.StockReservation;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.type.ReservationStatus;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.events.InventoryEventPublisher;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.exceptions.InsufficientStockException;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.exceptions.ResourceNotFoundException;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.repository.ReservationBatchRepository;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.repository.StockReservationRepository;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.services.ReservationService;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.services.ledger.StockLedger;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.services.lowstock.LowStockDetector;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.services.reservation.ReservationHold;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Holds stock for orders by moving quantity from available to reserved in the {@link StockLedger}.
+ * Every reservation and settlement is written through: the stock delta and its stock_reservation
+ * row commit in one transaction, guarded by the inventory row. Active holds are mirrored in memory
+ * and expire through a delay queue. Each change is published like any other stock change, so other
+ * replicas drop their cached copy and low stock is alerted.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationServiceImpl implements ReservationService {
+
+    private final StockLedger stockLedger;
+    private final StockReservationRepository stockReservationRepository;
+    private final ReservationBatchRepository reservationBatchRepository;
+    private final InventoryEventPublisher inventoryEventPublisher;
+    private final LowStockDetector lowStockDetector;
+
+    private final ConcurrentHashMap<String, ReservationHold> holds = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<ReservationHold>> holdsByOrder = new ConcurrentHashMap<>();
+    private final DelayQueue<ReservationHold> expiryQueue = new DelayQueue<>();
+
+    @Value("${app.inventory.reservation.default-ttl-seconds:900}")
+    private long defaultTtlSeconds;
+
+    @Override
+    public ReservationResponse reserve(ReserveStockRequest request) {
+        if (request.getQuantity() == null || request.getQuantity() <= 0) {
+            throw new IllegalArgumentException("Reservation quantity must be positive");
+        }
+        long ttl = request.getTtlSeconds() == null ? defaultTtlSeconds : request.getTtlSeconds();
+        ReservationHold hold = new ReservationHold(request.getOrderId(), request.getSku(), request.getWarehouseId(),
+                request.getQuantity(), Instant.now().plus(Duration.ofSeconds(ttl)));
+
+        ReservationHold existing = holds.putIfAbsent(hold.getId(), hold);
+        if (existing != null) {
+            if (existing.isHeld() || !holds.replace(hold.getId(), existing, hold)) {
+                return mapToResponse(holds.getOrDefault(hold.getId(), existing));
+            }
+        }
+
+        try {
+            hold(List.of(hold));
+        } catch (RuntimeException e) {
+            holds.remove(hold.getId(), hold);
+            throw e;
+        }
+
+        register(hold);
+        return mapToResponse(hold);
+    }
+
+    /**
+     * Reserves stock for many orders at once. Lines are grouped by (sku, warehouseId) so each key is
+     * moved and its hold rows written in a single transaction; only when a key cannot cover the
+     * whole group are its lines retried one order at a time. Orders are all-or-nothing: the holds of
+     * an order that fails elsewhere are returned and their rows deleted. Orders that already hold
+     * reservations, in memory or in the table, are reported as duplicates without touching stock,
+     * so a redelivered batch is never reserved twice.
+     */
+    @Override
+    public List<OrderReservationResult> reserveOrders(Map<Long, List<ReserveStockRequest>> linesByOrder) {
+        Set<Long> alreadyReserved = new HashSet<>();
+        for (Long orderId : linesByOrder.keySet()) {
+            if (holdsByOrder.containsKey(orderId)) {
+                alreadyReserved.add(orderId);
+            }
+        }
+        if (alreadyReserved.size() < linesByOrder.size()) {
+            alreadyReserved.addAll(stockReservationRepository.findReservedOrderIds(linesByOrder.keySet()));
+        }
+
+        Map<Long, String> failures = new HashMap<>();
+        Map<String, List<ReservationHold>> holdsByKey = new LinkedHashMap<>();
+        Instant now = Instant.now();
+        linesByOrder.forEach((orderId, lines) -> {
+            if (alreadyReserved.contains(orderId)) {
+                return;
+            }
+            Map<String, ReserveStockRequest> merged = new LinkedHashMap<>();
+            for (ReserveStockRequest line : lines) {
+                if (line.getQuantity() == null || line.getQuantity() <= 0) {
+                    failures.put(orderId, "Reservation quantity must be positive for sku: " + line.getSku());
+                    return;
+                }
+                merged.merge(StockLedger.key(line.getSku(), line.getWarehouseId()), line, (a, b) -> {
+                    ReserveStockRequest sum = new ReserveStockRequest();
+                    sum.setOrderId(orderId);
+                    sum.setSku(a.getSku());
+                    sum.setWarehouseId(a.getWarehouseId());
+                    sum.setQuantity(a.getQuantity() + b.getQuantity());
+                    sum.setTtlSeconds(a.getTtlSeconds());
+                    return sum;
+                });
+            }
+            merged.forEach((key, line) -> {
+                long ttl = line.getTtlSeconds() == null ? defaultTtlSeconds : line.getTtlSeconds();
+                holdsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(new ReservationHold(orderId,
+                        line.getSku(), line.getWarehouseId(), line.getQuantity(), now.plus(Duration.ofSeconds(ttl))));
+            });
+        });
+
+        List<ReservationHold> applied = new ArrayList<>();
+        holdsByKey.forEach((key, keyHolds) -> {
+            try {
+                hold(keyHolds);
+                applied.addAll(keyHolds);
+                return;
+            } catch (InsufficientStockException e) {
+                log.debug("Coalesced reservation for {} failed, retrying per order", key);
+            } catch (RuntimeException e) {
+                // Not a stock shortfall: retrying one order at a time would fail the same way.
+                keyHolds.forEach(hold -> failures.putIfAbsent(hold.getOrderId(), failureReason(hold, e)));
+                return;
+            }
+            for (ReservationHold hold : keyHolds) {
+                if (failures.containsKey(hold.getOrderId())) {
+                    continue;
+                }
+                try {
+                    hold(List.of(hold));
+                    applied.add(hold);
+                } catch (RuntimeException e) {
+                    failures.put(hold.getOrderId(), failureReason(hold, e));
+                }
+            }
+        });
+
+        Map<String, List<ReservationHold>> undo = new LinkedHashMap<>();
+        Map<Long, List<ReservationResponse>> reservations = new HashMap<>();
+        for (ReservationHold hold : applied) {
+            if (failures.containsKey(hold.getOrderId())) {
+                undo.computeIfAbsent(StockLedger.key(hold.getSku(), hold.getWarehouseId()), k -> new ArrayList<>()).add(hold);
+                continue;
+            }
+            holds.put(hold.getId(), hold);
+            register(hold);
+            reservations.computeIfAbsent(hold.getOrderId(), k -> new ArrayList<>()).add(mapToResponse(hold));
+        }
+        undo.values().forEach(this::unhold);
+
+        List<OrderReservationResult> results = new ArrayList<>(linesByOrder.size());
+        for (Long orderId : linesByOrder.keySet()) {
+            OrderReservationResult.OrderReservationResultBuilder result = OrderReservationResult.builder().orderId(orderId);
+            if (alreadyReserved.contains(orderId)) {
+                result.reserved(true).duplicate(true);
+            } else if (failures.containsKey(orderId)) {
+                result.reserved(false).reason(failures.get(orderId));
+            } else {
+                result.reserved(true).reservations(reservations.getOrDefault(orderId, List.of()));
+            }
+            results.add(result.build());
+        }
+        return results;
+    }
+
+    @Override
+    public List<ReservationResponse> getByOrder(Long orderId) {
+        Set<ReservationHold> orderHolds = holdsByOrder.get(orderId);
+        if (orderHolds == null || orderHolds.isEmpty()) {
+            throw new ResourceNotFoundException("No reservations found for order id: " + orderId);
+        }
+        return orderHolds.stream().map(this::mapToResponse).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ReservationResponse> commit(Long orderId) {
+        return settleOrder(orderId, ReservationStatus.COMMITTED);
+    }
+
+    @Override
+    public List<ReservationResponse> release(Long orderId) {
+        return settleOrder(orderId, ReservationStatus.RELEASED);
+    }
+
+    /**
+     * Expires every hold whose TTL has elapsed. The delay queue hands back only expired holds, so
+     * the sweep never scans active reservations or the table. A hold that fails to settle goes back
+     * on the queue and is retried by the next sweep.
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.reservation.sweep-interval-ms:1000}")
+    public void expireHolds() {
+        List<ReservationHold> expired = new ArrayList<>();
+        expiryQueue.drainTo(expired);
+        int count = 0;
+        for (ReservationHold hold : expired) {
+            try {
+                if (settle(hold, ReservationStatus.EXPIRED)) {
+                    count++;
+                }
+            } catch (RuntimeException e) {
+                log.error("Failed to expire stock reservation {}, will retry", hold.getId(), e);
+                expiryQueue.add(hold);
+            }
+        }
+        if (count > 0) {
+            log.info("Expired {} stock reservations", count);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverHolds() {
+        List<StockReservation> active = stockReservationRepository.findByStatus(ReservationStatus.HELD);
+        for (StockReservation reservation : active) {
+            ReservationHold hold = new ReservationHold(reservation);
+            holds.put(hold.getId(), hold);
+            holdsByOrder.computeIfAbsent(hold.getOrderId(), k -> ConcurrentHashMap.newKeySet()).add(hold);
+            expiryQueue.add(hold);
+        }
+        log.info("Recovered {} active stock reservations", active.size());
+    }
+
+    private void register(ReservationHold hold) {
+        holdsByOrder.computeIfAbsent(hold.getOrderId(), k -> ConcurrentHashMap.newKeySet()).add(hold);
+        expiryQueue.add(hold);
+    }
+
+    private void forget(ReservationHold hold) {
+        holds.remove(hold.getId(), hold);
+        Set<ReservationHold> orderHolds = holdsByOrder.get(hold.getOrderId());
+        if (orderHolds != null) {
+            orderHolds.remove(hold);
+            if (orderHolds.isEmpty()) {
+                holdsByOrder.remove(hold.getOrderId(), orderHolds);
+            }
+        }
+    }
+
+    /**
+     * Moves the total of the given holds, which share one (sku, warehouseId), from available to
+     * reserved and writes their rows in the same transaction.
+     */
+    private void hold(List<ReservationHold> keyHolds) {
+        ReservationHold first = keyHolds.get(0);
+        int total = keyHolds.stream().mapToInt(ReservationHold::getQuantity).sum();
+        publishChange(stockLedger.applyNow(first.getSku(), first.getWarehouseId(), -total, total, 0,
+                () -> reservationBatchRepository.upsertAll(keyHolds.stream()
+                        .map(ReservationHold::toEntity)
+                        .collect(Collectors.toList()))));
+    }
+
+    /**
+     * Returns the stock of holds written for an order that failed and deletes their rows. If that
+     * fails the holds are kept and simply expire.
+     */
+    private void unhold(List<ReservationHold> keyHolds) {
+        ReservationHold first = keyHolds.get(0);
+        int total = keyHolds.stream().mapToInt(ReservationHold::getQuantity).sum();
+        try {
+            publishChange(stockLedger.applyNow(first.getSku(), first.getWarehouseId(), total, -total, 0,
+                    () -> reservationBatchRepository.deleteAll(keyHolds.stream()
+                            .map(ReservationHold::getId)
+                            .collect(Collectors.toList()))));
+        } catch (RuntimeException e) {
+            log.error("Failed to return {} held for failed orders on {}, holds will expire", total,
+                    StockLedger.key(first.getSku(), first.getWarehouseId()), e);
+            keyHolds.forEach(hold -> {
+                holds.put(hold.getId(), hold);
+                expiryQueue.add(hold);
+            });
+        }
+    }
+
+    private List<ReservationResponse> settleOrder(Long orderId, ReservationStatus target) {
+        Set<ReservationHold> orderHolds = holdsByOrder.get(orderId);
+        if (orderHolds == null || orderHolds.isEmpty()) {
+            throw new ResourceNotFoundException("No reservations found for order id: " + orderId);
+        }
+        List<ReservationResponse> responses = new ArrayList<>(orderHolds.size());
+        for (ReservationHold hold : orderHolds) {
+            settle(hold, target);
+            responses.add(mapToResponse(hold));
+        }
+        return responses;
+    }
+
+    private boolean settle(ReservationHold hold, ReservationStatus target) {
+        int quantity = hold.getQuantity();
+        int available = target == ReservationStatus.COMMITTED ? 0 : quantity;
+        boolean settled = hold.settle(target, row -> publishChange(stockLedger.applyNow(hold.getSku(),
+                hold.getWarehouseId(), available, -quantity, 0, () -> reservationBatchRepository.upsertAll(List.of(row)))));
+        if (!settled) {
+            return false;
+        }
+        forget(hold);
+        return true;
+    }
+
+    // The ledger has already cached the committed snapshot; only the events are left.
+    private void publishChange(InventoryItem saved) {
+        inventoryEventPublisher.publishStockUpdated(saved);
+
+        if(lowStockDetector.shouldAlert(saved)){
+            inventoryEventPublisher.publishLowStock(saved);
+        }
+    }
+
+    private String failureReason(ReservationHold hold, RuntimeException e) {
+        if (e instanceof InsufficientStockException) {
+            return "Insufficient stock for sku: " + hold.getSku() + ": " + e.getMessage();
+        }
+        if (e instanceof ResourceNotFoundException) {
+            return e.getMessage();
+        }
+        log.error("Failed to reserve sku {} in warehouse {} for order {}", hold.getSku(), hold.getWarehouseId(),
+                hold.getOrderId(), e);
+        return "Failed to reserve sku: " + hold.getSku() + ": " + e.getMessage();
+    }
+
+    private ReservationResponse mapToResponse(ReservationHold hold) {
+        return ReservationResponse.builder()
+                .reservationId(hold.getId())
+                .orderId(hold.getOrderId())
+                .sku(hold.getSku())
+                .warehouseId(hold.getWarehouseId())
+                .quantity(hold.getQuantity())
+                .status(hold.getStatus())
+                .expiresAt(hold.getExpiresAt())
+                .build();
+    }
+}
@@ -2,54 +2,96 @@ package com.SupplyChainMngmt.com.InventoryService.InventoryService.services.impl
 
 import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.request.AdjustStockRequest;
 import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.request.InventoryItemRequest;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.request.StockAdjustmentRequest;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response.BatchAdjustStockResponse;
 import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response.InventoryItemResponse;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response.InventoryPageResponse;
 import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.InventoryItem;
 import com.SupplyChainMngmt.com.InventoryService.InventoryService.events.InventoryEventPublisher;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.repository.InventoryBatchRepository;
 import com.SupplyChainMngmt.com.InventoryService.InventoryService.repository.InventoryRepository;
 import com.SupplyChainMngmt.com.InventoryService.InventoryService.services.InventoryService;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.services.cache.InventoryCache;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.services.ledger.StockLedger;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.services.lowstock.LowStockDetector;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.services.stock.StockAdjustMode;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.services.stock.StockAdjuster;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import com.SupplyChainMngmt.com.InventoryService.InventoryService.exceptions.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ServiceImpl implements InventoryService {
 
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final InventoryRepository inventoryRepository;
+    private final InventoryBatchRepository inventoryBatchRepository;
     private final InventoryEventPublisher inventoryEventPublisher;
+    private final StockLedger stockLedger;
+    private final InventoryCache inventoryCache;
+    private final LowStockDetector lowStockDetector;
+    private final EntityManager entityManager;
+    private final List<StockAdjuster> stockAdjusters;
+
+    @Value("${app.inventory.adjust-mode:ENTITY}")
+    private StockAdjustMode adjustMode;
+
+    private StockAdjuster stockAdjuster;
+
+    @PostConstruct
+    void selectStockAdjuster() {
+        stockAdjuster = stockAdjusters.stream()
+                .filter(adjuster -> adjuster.mode() == adjustMode)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No stock adjuster for mode: " + adjustMode));
+    }
 
     @Override
     public InventoryItemResponse createOrUpdate(InventoryItemRequest request) {
-        InventoryItem item = inventoryRepository
-                .findBySkuAndWarehouseId(request.getSku(), request.getWarehouseId())
-                .map(existing -> {
-                    if (request.getAvailableQty() != null) existing.setAvailableQty(request.getAvailableQty());
-                    if (request.getReservedQty() != null) existing.setReservedQty(request.getReservedQty());
-                    if (request.getIncomingQty() != null) existing.setIncomingQty(request.getIncomingQty());
-                    if (request.getThreshold() != null) existing.setThreshold(request.getThreshold());
-                    return existing;
-                })
-                .orElseGet(() -> InventoryItem.builder()
-                        .sku(request.getSku())
-                        .warehouseId(request.getWarehouseId())
-                        .availableQty(request.getAvailableQty() == null ? 0 : request.getAvailableQty())
-                        .reservedQty(request.getReservedQty() == null ? 0 : request.getReservedQty())
-                        .incomingQty(request.getIncomingQty() == null ? 0 : request.getIncomingQty())
-                        .threshold(request.getThreshold() == null ? 0 : request.getThreshold())
-                        .build());
+        stockLedger.evict(request.getSku(), request.getWarehouseId());
+        inventoryBatchRepository.upsert(request, Instant.now());
+        InventoryItem saved = inventoryRepository.findBySkuAndWarehouseId(request.getSku(), request.getWarehouseId())
+                .orElseThrow(() -> new ResourceNotFoundException("No Resource Found with sku: " + request.getSku() + " and warehouse id: " + request.getWarehouseId()));
 
-        InventoryItem saved = inventoryRepository.save(item);
-        inventoryEventPublisher.publishStockUpdated(saved);
+        publishChange(saved);
+        return mapToResponse(saved);
+    }
 
-        if(saved.getAvailableQty() != null && saved.getAvailableQty() <= saved.getThreshold()){
-            inventoryEventPublisher.publishLowStock(saved);
+    @Override
+    public List<InventoryItemResponse> createOrUpdateBatch(List<InventoryItemRequest> requests) {
+        Map<String, InventoryItemRequest> byKey = new LinkedHashMap<>();
+        for (InventoryItemRequest request : requests) {
+            byKey.put(StockLedger.key(request.getSku(), request.getWarehouseId()), request);
+            stockLedger.evict(request.getSku(), request.getWarehouseId());
         }
-        return mapToResponse(saved);
+
+        inventoryBatchRepository.upsertAll(new ArrayList<>(byKey.values()), Instant.now());
+        Map<String, InventoryItem> rows = findByKeys(byKey);
+
+        List<InventoryItemResponse> responses = new ArrayList<>(byKey.size());
+        for (String key : byKey.keySet()) {
+            InventoryItem saved = rows.get(key);
+            publishChange(saved);
+            responses.add(mapToResponse(saved));
+        }
+        return responses;
     }
 
     @Override
@@ -62,62 +104,105 @@ public class ServiceImpl implements InventoryService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<InventoryItemResponse> getAll() {
-        return inventoryRepository.findAll()
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public InventoryPageResponse getPage(Long after, Integer limit, String skuPrefix, String warehouseId) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        List<InventoryItem> rows = inventoryRepository.findPage(after == null ? 0L : after,
+                blankToNull(skuPrefix), blankToNull(warehouseId), Limit.of(pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<InventoryItem> page = hasMore ? rows.subList(0, pageSize) : rows;
+        return InventoryPageResponse.builder()
+                .items(page.stream().map(this::mapToResponse).collect(Collectors.toList()))
+                .nextCursor(page.isEmpty() ? null : page.get(page.size() - 1).getId())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(String skuPrefix, String warehouseId, Consumer<InventoryItemResponse> sink) {
+        try (Stream<InventoryItem> rows = inventoryRepository.streamAll(blankToNull(skuPrefix), blankToNull(warehouseId))) {
+            rows.forEach(item -> {
+                sink.accept(mapToResponse(item));
+                entityManager.detach(item);
+            });
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<InventoryItemResponse> getBySku(String sku) {
-        return inventoryRepository.findBySku(sku)
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return inventoryCache.getBySku(sku, inventoryRepository::findBySku);
     }
 
     @Override
     @Transactional(readOnly = true)
     public InventoryItemResponse getBySkuAndWarehouse(String sku, String warehouseId) {
-        InventoryItem items = inventoryRepository.findBySkuAndWarehouseId(sku, warehouseId)
+        return inventoryCache.getBySkuAndWarehouse(sku, warehouseId,
+                        () -> inventoryRepository.findBySkuAndWarehouseId(sku, warehouseId))
                 .orElseThrow(() -> new ResourceNotFoundException("No Resource Found with sku: " + sku + " and warehouse id: " + warehouseId));
-
-        return mapToResponse(items);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public InventoryItemResponse adjustStock(Long id, AdjustStockRequest request) {
-        InventoryItem item = inventoryRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Resource Not Found with id: "+id));
-        int newQty = item.getAvailableQty() + (request.getDelta() == null ? 0: request.getDelta());
-        if(newQty<0){
-            throw new IllegalArgumentException("Resulting available quantity cannot be negative");
+        int delta = request.getDelta() == null ? 0 : request.getDelta();
+        InventoryItem saved = adjustMode == StockAdjustMode.LEDGER
+                ? stockAdjuster.adjust(id, delta)
+                : stockLedger.bypass(id, () -> stockAdjuster.adjust(id, delta));
+
+        publishChange(saved);
+
+        return mapToResponse(saved);
+    }
+
+    @Override
+    public BatchAdjustStockResponse adjustStockBatch(List<StockAdjustmentRequest> requests) {
+        Map<Long, Integer> netDeltas = new LinkedHashMap<>();
+        for (StockAdjustmentRequest request : requests) {
+            netDeltas.merge(request.getId(), request.getDelta() == null ? 0 : request.getDelta(), Integer::sum);
         }
+        netDeltas.keySet().forEach(stockLedger::evict);
 
-        item.setAvailableQty(newQty);
-        InventoryItem saved = inventoryRepository.save(item);
+        List<Map.Entry<Long, Integer>> deltas = new ArrayList<>(netDeltas.entrySet());
+        int[] counts = inventoryBatchRepository.adjustAvailable(deltas, Instant.now());
 
-        inventoryEventPublisher.publishStockUpdated(saved);
+        Map<Long, InventoryItem> rows = new HashMap<>();
+        inventoryRepository.findAllById(netDeltas.keySet()).forEach(item -> rows.put(item.getId(), item));
 
-        if(saved.getAvailableQty() != null && saved.getAvailableQty() <= saved.getThreshold()){
-            inventoryEventPublisher.publishLowStock(saved);
+        List<InventoryItemResponse> updated = new ArrayList<>();
+        List<Long> rejectedIds = new ArrayList<>();
+        List<Long> notFoundIds = new ArrayList<>();
+        for (int i = 0; i < deltas.size(); i++) {
+            Long id = deltas.get(i).getKey();
+            InventoryItem item = rows.get(id);
+            if (item == null) {
+                notFoundIds.add(id);
+            } else if (counts[i] == 0) {
+                rejectedIds.add(id);
+            } else {
+                publishChange(item);
+                updated.add(mapToResponse(item));
+            }
         }
 
-        return mapToResponse(saved);
+        return BatchAdjustStockResponse.builder()
+                .updated(updated)
+                .rejectedIds(rejectedIds)
+                .notFoundIds(notFoundIds)
+                .build();
     }
 
     @Override
     public InventoryItemResponse updateThreshold(Long id, Integer threshold) {
+        stockLedger.evict(id);
         InventoryItem item = inventoryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Resource not found with id: "+id));
         item.setThreshold(threshold);
         InventoryItem saved = inventoryRepository.save(item);
+        inventoryCache.putAfterCommit(saved);
 
-        inventoryEventPublisher.publishLowStock(saved);
-
-        if(saved.getAvailableQty() != null && saved.getAvailableQty() <= saved.getThreshold()){
+        if(lowStockDetector.shouldAlert(saved)){
             inventoryEventPublisher.publishLowStock(saved);
         }
 
@@ -126,9 +211,42 @@ public class ServiceImpl implements InventoryService {
 
     @Override
     public void delete(Long id) {
+        stockLedger.discard(id);
         InventoryItem item = inventoryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Resource not fund with id: "+id));
         inventoryRepository.delete(item);
+        inventoryCache.invalidateAfterCommit(item.getSku(), item.getWarehouseId());
+        lowStockDetector.forget(item.getSku(), item.getWarehouseId());
+    }
+
+    private void publishChange(InventoryItem saved) {
+        inventoryCache.putAfterCommit(saved);
+        inventoryEventPublisher.publishStockUpdated(saved);
+
+        if(lowStockDetector.shouldAlert(saved)){
+            inventoryEventPublisher.publishLowStock(saved);
+        }
+    }
+
+    private Map<String, InventoryItem> findByKeys(Map<String, InventoryItemRequest> byKey) {
+        List<String> skus = byKey.values().stream()
+                .map(InventoryItemRequest::getSku)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<String, InventoryItem> found = new HashMap<>();
+        for (int i = 0; i < skus.size(); i += LOOKUP_CHUNK_SIZE) {
+            for (InventoryItem item : inventoryRepository.findBySkuIn(skus.subList(i, Math.min(i + LOOKUP_CHUNK_SIZE, skus.size())))) {
+                String key = StockLedger.key(item.getSku(), item.getWarehouseId());
+                if (byKey.containsKey(key)) {
+                    found.put(key, item);
+                }
+            }
+        }
+        return found;
+    }
+
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
     }
 
     public InventoryItemResponse mapToResponse(InventoryItem item){
@@ -0,0 +1,482 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.services.ledger;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.InventoryItem;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.exceptions.InsufficientStockException;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.exceptions.ResourceNotFoundException;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.repository.InventoryRepository;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.services.cache.InventoryCache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Write-behind stock counters keyed by (sku, warehouseId).
+ *
+ * Deltas are applied and validated in memory under a per-key lock, then the net change per key is
+ * flushed to the inventory table on a short interval or once enough keys are dirty. Entries are
+ * loaded lazily from the table, so a restart simply rebuilds the ledger from persisted state.
+ * Every write is guarded by the row itself: a delta that would drive a counter negative changes
+ * nothing and the entry is reloaded from the table. Callers that must not accept a change the row
+ * later refuses, like reservations, use {@link #applyNow}.
+ *
+ * Paths that write a row directly evict its entry first and hold the row until their write has
+ * committed; loads of a held row wait, so the ledger never caches a row read before such a write.
+ */
+@Component
+@Slf4j
+public class StockLedger {
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryCache inventoryCache;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate evictTransaction;
+
+    private final ConcurrentHashMap<Long, StockLedgerEntry> entriesById = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, StockLedgerEntry> entriesByKey = new ConcurrentHashMap<>();
+    private final Queue<StockLedgerEntry> dirtyEntries = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger dirtyCount = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // Rows being written directly, by id and by key, mapped to the number of writers holding them.
+    private final Map<Object, Integer> heldRows = new HashMap<>();
+
+    @Value("${app.inventory.ledger.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.inventory.ledger.preload:false}")
+    private boolean preload;
+
+    public StockLedger(InventoryRepository inventoryRepository, InventoryCache inventoryCache,
+                       PlatformTransactionManager transactionManager) {
+        this.inventoryRepository = inventoryRepository;
+        this.inventoryCache = inventoryCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Evictions are called from non-transactional paths (adjustStock runs NOT_SUPPORTED) and
+        // must commit the delta before the caller reads the row, so they always use their own.
+        this.evictTransaction = new TransactionTemplate(transactionManager);
+        this.evictTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public static String key(String sku, String warehouseId) {
+        return sku + ":" + warehouseId;
+    }
+
+    /**
+     * Applies the given deltas atomically for one inventory row and returns the resulting snapshot.
+     * Throws if any counter would become negative, leaving the entry untouched.
+     */
+    public InventoryItem apply(Long id, int availableDelta, int reservedDelta, int incomingDelta) {
+        return apply(() -> load(id), availableDelta, reservedDelta, incomingDelta);
+    }
+
+    public InventoryItem apply(String sku, String warehouseId, int availableDelta, int reservedDelta, int incomingDelta) {
+        return apply(() -> load(sku, warehouseId), availableDelta, reservedDelta, incomingDelta);
+    }
+
+    private InventoryItem apply(Supplier<StockLedgerEntry> loader, int availableDelta, int reservedDelta, int incomingDelta) {
+        InventoryItem snapshot;
+        boolean becameDirty;
+        while (true) {
+            StockLedgerEntry entry = loader.get();
+            synchronized (entry) {
+                if (entry.evicted) {
+                    continue;
+                }
+                int available = entry.availableQty + availableDelta;
+                int reserved = entry.reservedQty + reservedDelta;
+                int incoming = entry.incomingQty + incomingDelta;
+                checkNonNegative(available, reserved, incoming);
+                entry.availableQty = available;
+                entry.reservedQty = reserved;
+                entry.incomingQty = incoming;
+                entry.pendingAvailable += availableDelta;
+                entry.pendingReserved += reservedDelta;
+                entry.pendingIncoming += incomingDelta;
+                becameDirty = !entry.dirty;
+                entry.dirty = true;
+                snapshot = entry.snapshot();
+                if (becameDirty) {
+                    dirtyEntries.add(entry);
+                }
+            }
+            break;
+        }
+        inventoryCache.put(snapshot);
+        if (becameDirty && dirtyCount.incrementAndGet() >= batchSize) {
+            flush();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Applies the deltas and writes them to the row at once, together with any delta still pending
+     * for it and the given work, in one transaction of its own. The update only succeeds if the row
+     * can cover it. If it fails the entry is reloaded from the table and checked once more, so stock
+     * moved by another replica or a direct write is never handed out twice. Throws
+     * InsufficientStockException if the row cannot cover the deltas; the work then does not run.
+     */
+    public InventoryItem applyNow(String sku, String warehouseId, int availableDelta, int reservedDelta,
+                                  int incomingDelta, Runnable inTransaction) {
+        boolean reload = false;
+        while (true) {
+            StockLedgerEntry entry = load(sku, warehouseId);
+            boolean locked = reload;
+            if (locked) {
+                // Deltas drained by a running flush are not in the row yet; wait for it before reloading.
+                flushLock.lock();
+            }
+            try {
+                synchronized (entry) {
+                    if (entry.evicted) {
+                        continue;
+                    }
+                    if (reload && !refresh(entry)) {
+                        throw new ResourceNotFoundException("No Resource Found with sku: " + sku + " and warehouse id: " + warehouseId);
+                    }
+                    int available = entry.availableQty + availableDelta;
+                    int reserved = entry.reservedQty + reservedDelta;
+                    int incoming = entry.incomingQty + incomingDelta;
+                    if (reload) {
+                        checkNonNegative(available, reserved, incoming);
+                    }
+                    if (available >= 0 && reserved >= 0 && incoming >= 0 && write(entry, availableDelta, reservedDelta, incomingDelta, inTransaction)) {
+                        entry.availableQty = available;
+                        entry.reservedQty = reserved;
+                        entry.incomingQty = incoming;
+                        entry.drain();
+                        InventoryItem snapshot = entry.snapshot();
+                        inventoryCache.put(snapshot);
+                        return snapshot;
+                    }
+                    if (reload) {
+                        throw new InsufficientStockException("Stock changed concurrently for sku: " + sku + " and warehouse id: " + warehouseId);
+                    }
+                    reload = true;
+                }
+            } finally {
+                if (locked) {
+                    flushLock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the entry for a row that is about to be written directly, persisting any pending
+     * deltas first so the caller sees the up to date row. The row stays held until the caller's
+     * transaction completes; callers without a transaction use {@link #bypass}.
+     */
+    public void evict(Long id) {
+        holdUntilCompletion(id);
+        StockLedgerEntry entry = entriesById.get(id);
+        if (entry != null) {
+            evict(entry, true);
+        }
+    }
+
+    public void evict(String sku, String warehouseId) {
+        String key = key(sku, warehouseId);
+        holdUntilCompletion(key);
+        StockLedgerEntry entry = entriesByKey.get(key);
+        if (entry != null) {
+            evict(entry, true);
+        }
+    }
+
+    /**
+     * Drops the entry for a row that is being deleted; pending deltas are discarded.
+     */
+    public void discard(Long id) {
+        holdUntilCompletion(id);
+        StockLedgerEntry entry = entriesById.get(id);
+        if (entry != null) {
+            evict(entry, false);
+        }
+    }
+
+    /**
+     * Runs a direct write that commits on its own, with the row evicted and held until it returns.
+     */
+    public <T> T bypass(Long id, Supplier<T> write) {
+        hold(id);
+        try {
+            StockLedgerEntry entry = entriesById.get(id);
+            if (entry != null) {
+                evict(entry, true);
+            }
+            return write.get();
+        } finally {
+            release(id);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.inventory.ledger.flush-interval-ms:100}")
+    public void scheduledFlush() {
+        if (dirtyCount.get() > 0) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the coalesced net delta of every dirty entry in a single transaction. If another thread
+     * is already flushing, this call returns immediately.
+     */
+    public int flush() {
+        if (!flushLock.tryLock()) {
+            return 0;
+        }
+        try {
+            List<StockLedgerEntry.PendingDelta> batch = new ArrayList<>();
+            StockLedgerEntry entry;
+            while ((entry = dirtyEntries.poll()) != null) {
+                dirtyCount.decrementAndGet();
+                synchronized (entry) {
+                    if (entry.dirty) {
+                        batch.add(entry.drain());
+                    }
+                }
+            }
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            List<StockLedgerEntry.PendingDelta> refused = new ArrayList<>();
+            try {
+                Instant now = Instant.now();
+                transactionTemplate.executeWithoutResult(status -> batch.forEach(delta -> {
+                    if (inventoryRepository.applyStockDelta(delta.entry().id,
+                            delta.available(), delta.reserved(), delta.incoming(), now) == 0) {
+                        refused.add(delta);
+                    }
+                }));
+            } catch (RuntimeException e) {
+                log.error("Failed to flush {} stock ledger entries, will retry", batch.size(), e);
+                batch.forEach(this::restore);
+                return 0;
+            }
+            for (StockLedgerEntry.PendingDelta delta : refused) {
+                // The row moved underneath this ledger; its counts win over the in-memory ones.
+                log.error("Inventory id {} refused stock delta {}, reloading its ledger entry", delta.entry().id, delta);
+                synchronized (delta.entry()) {
+                    if (!delta.entry().evicted) {
+                        refresh(delta.entry());
+                    }
+                }
+            }
+            return batch.size() - refused.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!preload) {
+            return;
+        }
+        List<InventoryItem> items = inventoryRepository.findAll();
+        // A row held by a direct write is skipped once the write completes and loaded on first use.
+        items.forEach(this::register);
+        log.info("Stock ledger rebuilt from {} inventory rows", items.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private StockLedgerEntry load(Long id) {
+        while (true) {
+            StockLedgerEntry entry = entriesById.get(id);
+            if (entry != null) {
+                return entry;
+            }
+            InventoryItem item = inventoryRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Resource Not Found with id: " + id));
+            entry = register(item);
+            if (entry != null) {
+                return entry;
+            }
+        }
+    }
+
+    private StockLedgerEntry load(String sku, String warehouseId) {
+        while (true) {
+            StockLedgerEntry entry = entriesByKey.get(key(sku, warehouseId));
+            if (entry != null) {
+                return entry;
+            }
+            InventoryItem item = inventoryRepository.findBySkuAndWarehouseId(sku, warehouseId)
+                    .orElseThrow(() -> new ResourceNotFoundException("No Resource Found with sku: " + sku + " and warehouse id: " + warehouseId));
+            entry = register(item);
+            if (entry != null) {
+                return entry;
+            }
+        }
+    }
+
+    /**
+     * Registers an entry for the row just read, or returns null once a direct write holding the row
+     * has completed; the row may have been read before that write, so the caller reads it again.
+     */
+    private StockLedgerEntry register(InventoryItem item) {
+        String key = key(item.getSku(), item.getWarehouseId());
+        synchronized (heldRows) {
+            if (heldRows.containsKey(item.getId()) || heldRows.containsKey(key)) {
+                while (heldRows.containsKey(item.getId()) || heldRows.containsKey(key)) {
+                    try {
+                        heldRows.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted waiting for a write to inventory id " + item.getId(), e);
+                    }
+                }
+                return null;
+            }
+            StockLedgerEntry entry = entriesById.computeIfAbsent(item.getId(), k -> new StockLedgerEntry(item));
+            entriesByKey.putIfAbsent(entry.key(), entry);
+            return entry;
+        }
+    }
+
+    private void holdUntilCompletion(Object row) {
+        hold(row);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(row);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                release(row);
+            }
+        });
+    }
+
+    private void hold(Object row) {
+        synchronized (heldRows) {
+            heldRows.merge(row, 1, Integer::sum);
+        }
+    }
+
+    private void release(Object row) {
+        synchronized (heldRows) {
+            heldRows.computeIfPresent(row, (k, count) -> count == 1 ? null : count - 1);
+            heldRows.notifyAll();
+        }
+    }
+
+    /**
+     * Waits for any flush in progress, then persists the pending delta while still holding the
+     * entry, so a concurrent apply() cannot reload the row before the delta is committed. If the
+     * write fails the entry stays registered with its delta and the exception propagates.
+     */
+    private void evict(StockLedgerEntry entry, boolean persistPending) {
+        flushLock.lock();
+        try {
+            synchronized (entry) {
+                if (entry.evicted) {
+                    return;
+                }
+                if (persistPending && entry.hasPending()) {
+                    int available = entry.pendingAvailable;
+                    int reserved = entry.pendingReserved;
+                    int incoming = entry.pendingIncoming;
+                    evictTransaction.executeWithoutResult(status -> inventoryRepository.applyStockDelta(
+                            entry.id, available, reserved, incoming, Instant.now()));
+                }
+                entry.drain();
+                entry.evicted = true;
+                entriesById.remove(entry.id, entry);
+                entriesByKey.remove(entry.key(), entry);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private static void checkNonNegative(int available, int reserved, int incoming) {
+        if (available < 0) {
+            throw new InsufficientStockException("Resulting available quantity cannot be negative");
+        }
+        if (reserved < 0 || incoming < 0) {
+            throw new IllegalArgumentException("Resulting reserved or incoming quantity cannot be negative");
+        }
+    }
+
+    /**
+     * Writes the entry's pending delta plus the given one and runs the work in one transaction.
+     * Returns false, with nothing written, if the row refused the update. Caller holds the entry.
+     */
+    private boolean write(StockLedgerEntry entry, int availableDelta, int reservedDelta, int incomingDelta,
+                          Runnable inTransaction) {
+        int available = entry.pendingAvailable + availableDelta;
+        int reserved = entry.pendingReserved + reservedDelta;
+        int incoming = entry.pendingIncoming + incomingDelta;
+        return Boolean.TRUE.equals(evictTransaction.execute(status -> {
+            if (inventoryRepository.applyStockDelta(entry.id, available, reserved, incoming, Instant.now()) == 0) {
+                status.setRollbackOnly();
+                return false;
+            }
+            inTransaction.run();
+            return true;
+        }));
+    }
+
+    /**
+     * Resets the entry's counts to the row plus whatever is still pending in memory. Returns false and
+     * evicts the entry if the row is gone. Caller holds the entry.
+     */
+    private boolean refresh(StockLedgerEntry entry) {
+        InventoryItem row = inventoryRepository.findById(entry.id).orElse(null);
+        if (row == null) {
+            entry.drain();
+            entry.evicted = true;
+            entriesById.remove(entry.id, entry);
+            entriesByKey.remove(entry.key(), entry);
+            return false;
+        }
+        entry.availableQty = (row.getAvailableQty() == null ? 0 : row.getAvailableQty()) + entry.pendingAvailable;
+        entry.reservedQty = (row.getReservedQty() == null ? 0 : row.getReservedQty()) + entry.pendingReserved;
+        entry.incomingQty = (row.getIncomingQty() == null ? 0 : row.getIncomingQty()) + entry.pendingIncoming;
+        return true;
+    }
+
+    private void restore(StockLedgerEntry.PendingDelta delta) {
+        StockLedgerEntry entry = delta.entry();
+        synchronized (entry) {
+            if (entry.evicted) {
+                log.error("Dropping unflushed stock delta for inventory id {} after eviction: {}", entry.id, delta);
+                return;
+            }
+            entry.pendingAvailable += delta.available();
+            entry.pendingReserved += delta.reserved();
+            entry.pendingIncoming += delta.incoming();
+            if (!entry.dirty) {
+                entry.dirty = true;
+                dirtyEntries.add(entry);
+                dirtyCount.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.services.ledger;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.InventoryItem;
+
+import java.time.Instant;
+
+/**
+ * In-memory stock counters for one (sku, warehouseId) row. Every field is guarded by the entry's own
+ * monitor, so contention is limited to callers touching the same key.
+ */
+class StockLedgerEntry {
+
+    final Long id;
+    final String sku;
+    final String warehouseId;
+    final int threshold;
+
+    int availableQty;
+    int reservedQty;
+    int incomingQty;
+
+    int pendingAvailable;
+    int pendingReserved;
+    int pendingIncoming;
+
+    boolean dirty;
+    boolean evicted;
+
+    StockLedgerEntry(InventoryItem item) {
+        this.id = item.getId();
+        this.sku = item.getSku();
+        this.warehouseId = item.getWarehouseId();
+        this.threshold = item.getThreshold() == null ? 0 : item.getThreshold();
+        this.availableQty = item.getAvailableQty() == null ? 0 : item.getAvailableQty();
+        this.reservedQty = item.getReservedQty() == null ? 0 : item.getReservedQty();
+        this.incomingQty = item.getIncomingQty() == null ? 0 : item.getIncomingQty();
+    }
+
+    PendingDelta drain() {
+        PendingDelta delta = new PendingDelta(this, pendingAvailable, pendingReserved, pendingIncoming);
+        pendingAvailable = 0;
+        pendingReserved = 0;
+        pendingIncoming = 0;
+        dirty = false;
+        return delta;
+    }
+
+    boolean hasPending() {
+        return pendingAvailable != 0 || pendingReserved != 0 || pendingIncoming != 0;
+    }
+
+    InventoryItem snapshot() {
+        return InventoryItem.builder()
+                .id(id)
+                .sku(sku)
+                .warehouseId(warehouseId)
+                .availableQty(availableQty)
+                .reservedQty(reservedQty)
+                .incomingQty(incomingQty)
+                .threshold(threshold)
+                .updatedAt(Instant.now())
+                .build();
+    }
+
+    String key() {
+        return StockLedger.key(sku, warehouseId);
+    }
+
+    record PendingDelta(StockLedgerEntry entry, int available, int reserved, int incoming) {
+    }
+}
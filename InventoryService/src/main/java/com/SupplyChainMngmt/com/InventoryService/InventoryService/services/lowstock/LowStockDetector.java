@@ -0,0 +1,97 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.services.lowstock;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.InventoryItem;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.repository.InventoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per (sku, warehouseId) low-stock state machine. An alert fires only when a row crosses into low
+ * stock and no alert for that key was sent within the cooldown; the row has to climb above
+ * threshold + hysteresis before it can alert again. Only keys that are low are kept in memory.
+ */
+@Component
+@Slf4j
+public class LowStockDetector {
+
+    private final InventoryRepository inventoryRepository;
+
+    /** Keys currently in the low state, mapped to the time of their last alert. */
+    private final ConcurrentHashMap<String, Long> lowSince = new ConcurrentHashMap<>();
+
+    /** Recovered keys still inside their cooldown, mapped to the time of their last alert. */
+    private final ConcurrentHashMap<String, Long> cooldowns = new ConcurrentHashMap<>();
+
+    @Value("${app.inventory.low-stock.hysteresis:0}")
+    private int hysteresis;
+
+    @Value("${app.inventory.low-stock.cooldown-seconds:300}")
+    private long cooldownSeconds;
+
+    public LowStockDetector(InventoryRepository inventoryRepository) {
+        this.inventoryRepository = inventoryRepository;
+    }
+
+    public static String key(String sku, String warehouseId) {
+        return sku + ":" + warehouseId;
+    }
+
+    /**
+     * Records the latest state of a row and returns true if a LOW_STOCK event should be published.
+     */
+    public boolean shouldAlert(InventoryItem item) {
+        if (item.getAvailableQty() == null || item.getThreshold() == null) {
+            return false;
+        }
+        String key = key(item.getSku(), item.getWarehouseId());
+        int available = item.getAvailableQty();
+        int threshold = item.getThreshold();
+
+        if (available > threshold + hysteresis) {
+            Long lastAlert = lowSince.remove(key);
+            if (lastAlert != null && lastAlert > 0) {
+                cooldowns.put(key, lastAlert);
+            }
+            return false;
+        }
+        if (available > threshold) {
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        boolean[] alert = new boolean[1];
+        lowSince.compute(key, (k, lastAlert) -> {
+            if (lastAlert != null) {
+                return lastAlert;
+            }
+            Long previous = cooldowns.remove(k);
+            if (previous != null && now - previous < cooldownSeconds * 1000) {
+                return previous;
+            }
+            alert[0] = true;
+            return now;
+        });
+        return alert[0];
+    }
+
+    public void forget(String sku, String warehouseId) {
+        String key = key(sku, warehouseId);
+        lowSince.remove(key);
+        cooldowns.remove(key);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<InventoryItem> lowItems = inventoryRepository.findLowStock();
+        for (InventoryItem item : lowItems) {
+            lowSince.putIfAbsent(key(item.getSku(), item.getWarehouseId()), 0L);
+        }
+        log.info("Low-stock detector rebuilt with {} low rows", lowItems.size());
+    }
+}
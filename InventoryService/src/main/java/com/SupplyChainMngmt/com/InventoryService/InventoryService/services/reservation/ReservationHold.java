@@ -0,0 +1,108 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.services.reservation;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.StockReservation;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.type.ReservationStatus;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.concurrent.Delayed;
+import java.util.function.Consumer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory view of one reservation. Status changes are guarded by the hold's monitor; the hold
+ * doubles as its own expiry timer in the sweeper's delay queue.
+ */
+@Getter
+public class ReservationHold implements Delayed {
+
+    private final String id;
+    private final Long orderId;
+    private final String sku;
+    private final String warehouseId;
+    private final int quantity;
+    private final Instant expiresAt;
+    private final Instant createdAt;
+    private ReservationStatus status;
+    private Instant updatedAt;
+
+    public ReservationHold(Long orderId, String sku, String warehouseId, int quantity, Instant expiresAt) {
+        this.id = id(orderId, sku, warehouseId);
+        this.orderId = orderId;
+        this.sku = sku;
+        this.warehouseId = warehouseId;
+        this.quantity = quantity;
+        this.expiresAt = expiresAt;
+        this.createdAt = Instant.now();
+        this.updatedAt = createdAt;
+        this.status = ReservationStatus.HELD;
+    }
+
+    public ReservationHold(StockReservation reservation) {
+        this.id = reservation.getId();
+        this.orderId = reservation.getOrderId();
+        this.sku = reservation.getSku();
+        this.warehouseId = reservation.getWarehouseId();
+        this.quantity = reservation.getQuantity();
+        this.expiresAt = reservation.getExpiresAt();
+        this.createdAt = reservation.getCreatedAt();
+        this.updatedAt = reservation.getUpdatedAt();
+        this.status = reservation.getStatus();
+    }
+
+    public static String id(Long orderId, String sku, String warehouseId) {
+        return orderId + ":" + sku + ":" + warehouseId;
+    }
+
+    /**
+     * Moves a held reservation to the given terminal status once the write, which receives the
+     * settled row, has run. Returns false if it was already settled; if the write throws, the hold
+     * stays HELD.
+     */
+    public synchronized boolean settle(ReservationStatus target, Consumer<StockReservation> write) {
+        if (status != ReservationStatus.HELD) {
+            return false;
+        }
+        Instant now = Instant.now();
+        write.accept(toEntity(target, now));
+        status = target;
+        updatedAt = now;
+        return true;
+    }
+
+    public synchronized boolean isHeld() {
+        return status == ReservationStatus.HELD;
+    }
+
+    public synchronized StockReservation toEntity() {
+        return toEntity(status, updatedAt);
+    }
+
+    private StockReservation toEntity(ReservationStatus status, Instant updatedAt) {
+        return StockReservation.builder()
+                .id(id)
+                .orderId(orderId)
+                .sku(sku)
+                .warehouseId(warehouseId)
+                .quantity(quantity)
+                .status(status)
+                .expiresAt(expiresAt)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    public synchronized ReservationStatus getStatus() {
+        return status;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(expiresAt.toEpochMilli() - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+    }
+}
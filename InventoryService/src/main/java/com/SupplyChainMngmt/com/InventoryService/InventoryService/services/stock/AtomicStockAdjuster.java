@@ -0,0 +1,39 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.services.stock;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.InventoryItem;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.exceptions.ResourceNotFoundException;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.repository.InventoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Applies the delta with a single conditional UPDATE, so the non-negative check and the write happen
+ * in one statement at the database. MySQL has no UPDATE ... RETURNING, so the new row is read back
+ * in the same transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class AtomicStockAdjuster implements StockAdjuster {
+
+    private final InventoryRepository inventoryRepository;
+
+    @Override
+    public StockAdjustMode mode() {
+        return StockAdjustMode.ATOMIC;
+    }
+
+    @Override
+    @Transactional
+    public InventoryItem adjust(Long id, int delta) {
+        int updated = inventoryRepository.adjustAvailableIfNonNegative(id, delta, Instant.now());
+        InventoryItem item = inventoryRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Resource Not Found with id: "+id));
+        if (updated == 0) {
+            throw new IllegalArgumentException("Resulting available quantity cannot be negative");
+        }
+        return item;
+    }
+}
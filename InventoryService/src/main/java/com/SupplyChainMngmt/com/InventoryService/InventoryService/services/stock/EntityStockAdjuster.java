@@ -0,0 +1,34 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.services.stock;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.InventoryItem;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.exceptions.ResourceNotFoundException;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.repository.InventoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class EntityStockAdjuster implements StockAdjuster {
+
+    private final InventoryRepository inventoryRepository;
+
+    @Override
+    public StockAdjustMode mode() {
+        return StockAdjustMode.ENTITY;
+    }
+
+    @Override
+    @Transactional
+    public InventoryItem adjust(Long id, int delta) {
+        InventoryItem item = inventoryRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Resource Not Found with id: "+id));
+        int newQty = item.getAvailableQty() + delta;
+        if(newQty<0){
+            throw new IllegalArgumentException("Resulting available quantity cannot be negative");
+        }
+
+        item.setAvailableQty(newQty);
+        return inventoryRepository.save(item);
+    }
+}
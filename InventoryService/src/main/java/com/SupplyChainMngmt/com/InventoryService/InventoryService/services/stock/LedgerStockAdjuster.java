@@ -0,0 +1,23 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.services.stock;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.InventoryItem;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.services.ledger.StockLedger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class LedgerStockAdjuster implements StockAdjuster {
+
+    private final StockLedger stockLedger;
+
+    @Override
+    public StockAdjustMode mode() {
+        return StockAdjustMode.LEDGER;
+    }
+
+    @Override
+    public InventoryItem adjust(Long id, int delta) {
+        return stockLedger.apply(id, delta, 0, 0);
+    }
+}
@@ -0,0 +1,58 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.services.stock;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.InventoryItem;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.exceptions.ResourceNotFoundException;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.repository.InventoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Read-modify-write guarded by the entity version column, retried when a concurrent writer wins.
+ */
+@Component
+@Slf4j
+public class OptimisticStockAdjuster implements StockAdjuster {
+
+    private final InventoryRepository inventoryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.inventory.optimistic.max-attempts:5}")
+    private int maxAttempts;
+
+    public OptimisticStockAdjuster(InventoryRepository inventoryRepository, PlatformTransactionManager transactionManager) {
+        this.inventoryRepository = inventoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public StockAdjustMode mode() {
+        return StockAdjustMode.OPTIMISTIC;
+    }
+
+    @Override
+    public InventoryItem adjust(Long id, int delta) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    InventoryItem item = inventoryRepository.findById(id)
+                            .orElseThrow(() -> new ResourceNotFoundException("Resource Not Found with id: "+id));
+                    int newQty = item.getAvailableQty() + delta;
+                    if (newQty < 0) {
+                        throw new IllegalArgumentException("Resulting available quantity cannot be negative");
+                    }
+                    item.setAvailableQty(newQty);
+                    return inventoryRepository.saveAndFlush(item);
+                });
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.debug("Version conflict adjusting inventory {} (attempt {}), retrying", id, attempt);
+            }
+        }
+    }
+}
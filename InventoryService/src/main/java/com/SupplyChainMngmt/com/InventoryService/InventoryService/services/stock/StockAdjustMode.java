@@ -0,0 +1,8 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.services.stock;
+
+public enum StockAdjustMode {
+    ENTITY,
+    ATOMIC,
+    OPTIMISTIC,
+    LEDGER
+}
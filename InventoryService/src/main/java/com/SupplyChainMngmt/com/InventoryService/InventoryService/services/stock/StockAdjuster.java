@@ -0,0 +1,14 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.services.stock;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.InventoryItem;
+
+/**
+ * Applies an available quantity delta to one inventory row and returns the resulting state.
+ * Implementations own their transaction boundary so they can retry or defer the write.
+ */
+public interface StockAdjuster {
+
+    StockAdjustMode mode();
+
+    InventoryItem adjust(Long id, int delta);
+}
@@ -0,0 +1,102 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.events;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryEventCoalescerTest {
+
+    private static final String TOPIC = "inventory.events";
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private KafkaTemplate<String, InventoryEvent> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InventoryEventCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new InventoryEventCoalescer(kafkaTemplate, meterRegistry);
+        ReflectionTestUtils.setField(coalescer, "inventoryEventsTopic", TOPIC);
+    }
+
+    @Test
+    void publishesOnlyTheLatestSnapshotPerKeyPerWindow() {
+        InventoryEvent first = stockUpdated(10, T0);
+        InventoryEvent second = stockUpdated(8, T0.plusMillis(5));
+        InventoryEvent third = stockUpdated(6, T0.plusMillis(10));
+
+        coalescer.offer("SKU-1:WH-1", first);
+        coalescer.offer("SKU-1:WH-1", second);
+        coalescer.offer("SKU-1:WH-1", third);
+        coalescer.flush();
+
+        verify(kafkaTemplate).send(TOPIC, "SKU-1:WH-1", third);
+        verify(kafkaTemplate, times(1)).send(anyString(), anyString(), any(InventoryEvent.class));
+        assertThat(meterRegistry.counter("inventory.events.coalesced").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("inventory.events.sent").count()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsTheNewerSnapshotWhenAnOlderOneArrivesLate() {
+        InventoryEvent newer = stockUpdated(4, T0.plusMillis(20));
+        InventoryEvent older = stockUpdated(9, T0);
+
+        coalescer.offer("SKU-1:WH-1", newer);
+        coalescer.offer("SKU-1:WH-1", older);
+        coalescer.flush();
+
+        verify(kafkaTemplate).send(TOPIC, "SKU-1:WH-1", newer);
+        verify(kafkaTemplate, never()).send(TOPIC, "SKU-1:WH-1", older);
+    }
+
+    @Test
+    void publishesEveryKeyAndStartsEachWindowEmpty() {
+        InventoryEvent a = stockUpdated(1, T0);
+        InventoryEvent b = stockUpdated(2, T0);
+
+        coalescer.offer("SKU-1:WH-1", a);
+        coalescer.offer("SKU-2:WH-1", b);
+        coalescer.flush();
+        coalescer.flush();
+
+        verify(kafkaTemplate).send(TOPIC, "SKU-1:WH-1", a);
+        verify(kafkaTemplate).send(TOPIC, "SKU-2:WH-1", b);
+        verify(kafkaTemplate, times(2)).send(anyString(), anyString(), any(InventoryEvent.class));
+    }
+
+    @Test
+    void flushWithNothingPendingSendsNothing() {
+        coalescer.flush();
+
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    private static InventoryEvent stockUpdated(int availableQty, Instant updatedAt) {
+        return InventoryEvent.builder()
+                .eventType("STOCK_UPDATED")
+                .sku("SKU-1")
+                .warehouseId("WH-1")
+                .availableQty(availableQty)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
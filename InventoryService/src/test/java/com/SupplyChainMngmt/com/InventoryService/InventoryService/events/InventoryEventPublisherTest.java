@@ -0,0 +1,84 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.events;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.InventoryItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryEventPublisherTest {
+
+    private static final String TOPIC = "inventory.events";
+
+    @Mock
+    private KafkaTemplate<String, InventoryEvent> kafkaTemplate;
+
+    @Mock
+    private InventoryEventCoalescer inventoryEventCoalescer;
+
+    @InjectMocks
+    private InventoryEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(publisher, "inventoryEventsTopic", TOPIC);
+        ReflectionTestUtils.setField(publisher, "coalesce", true);
+    }
+
+    @Test
+    void stockUpdatesGoThroughTheCoalescer() {
+        publisher.publishStockUpdated(item());
+
+        ArgumentCaptor<InventoryEvent> event = ArgumentCaptor.forClass(InventoryEvent.class);
+        verify(inventoryEventCoalescer).offer(eq("SKU-1:WH-1"), event.capture());
+        assertThat(event.getValue().getEventType()).isEqualTo("STOCK_UPDATED");
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    void lowStockBypassesTheCoalescer() {
+        publisher.publishLowStock(item());
+
+        ArgumentCaptor<InventoryEvent> event = ArgumentCaptor.forClass(InventoryEvent.class);
+        verify(kafkaTemplate).send(eq(TOPIC), eq("SKU-1:WH-1"), event.capture());
+        assertThat(event.getValue().getEventType()).isEqualTo("LOW_STOCK");
+        verifyNoInteractions(inventoryEventCoalescer);
+    }
+
+    @Test
+    void stockUpdatesAreSentDirectlyWhenCoalescingIsOff() {
+        ReflectionTestUtils.setField(publisher, "coalesce", false);
+
+        publisher.publishStockUpdated(item());
+
+        verify(kafkaTemplate).send(eq(TOPIC), eq("SKU-1:WH-1"), any(InventoryEvent.class));
+        verifyNoInteractions(inventoryEventCoalescer);
+    }
+
+    private static InventoryItem item() {
+        InventoryItem item = new InventoryItem();
+        item.setId(1L);
+        item.setSku("SKU-1");
+        item.setWarehouseId("WH-1");
+        item.setAvailableQty(3);
+        item.setReservedQty(0);
+        item.setIncomingQty(0);
+        item.setThreshold(5);
+        item.setUpdatedAt(Instant.parse("2026-01-01T00:00:00Z"));
+        return item;
+    }
+}
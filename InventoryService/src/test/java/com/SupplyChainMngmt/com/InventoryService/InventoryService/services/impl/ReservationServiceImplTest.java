@@ -0,0 +1,197 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.services.impl;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.request.ReserveStockRequest;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.dto.response.OrderReservationResult;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.InventoryItem;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.StockReservation;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.type.ReservationStatus;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.events.InventoryEventPublisher;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.exceptions.InsufficientStockException;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.exceptions.ResourceNotFoundException;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.repository.ReservationBatchRepository;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.repository.StockReservationRepository;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.services.ledger.StockLedger;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.services.lowstock.LowStockDetector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationServiceImplTest {
+
+    @Mock
+    private StockLedger stockLedger;
+    @Mock
+    private StockReservationRepository stockReservationRepository;
+    @Mock
+    private ReservationBatchRepository reservationBatchRepository;
+    @Mock
+    private InventoryEventPublisher inventoryEventPublisher;
+    @Mock
+    private LowStockDetector lowStockDetector;
+
+    @InjectMocks
+    private ReservationServiceImpl reservationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reservationService, "defaultTtlSeconds", 900L);
+    }
+
+    @Test
+    void coalescesOrdersForTheSameSkuIntoOneWrite() {
+        when(stockLedger.applyNow(anyString(), anyString(), anyInt(), anyInt(), anyInt(), any())).thenAnswer(written());
+
+        List<OrderReservationResult> results = reservationService.reserveOrders(orders(line(1L, "SKU-1", 2), line(2L, "SKU-1", 3)));
+
+        assertThat(results).allMatch(OrderReservationResult::isReserved);
+        verify(stockLedger).applyNow(eq("SKU-1"), eq("WH-1"), eq(-5), eq(5), eq(0), any());
+        verify(reservationBatchRepository).upsertAll(anyList());
+        verify(inventoryEventPublisher).publishStockUpdated(any(InventoryItem.class));
+    }
+
+    @Test
+    void fallsBackToOneOrderAtATimeWhenTheKeyIsShort() {
+        when(stockLedger.applyNow(eq("SKU-1"), eq("WH-1"), eq(-5), eq(5), eq(0), any()))
+                .thenThrow(new InsufficientStockException("Resulting available quantity cannot be negative"));
+        when(stockLedger.applyNow(eq("SKU-1"), eq("WH-1"), eq(-2), eq(2), eq(0), any())).thenAnswer(written());
+        when(stockLedger.applyNow(eq("SKU-1"), eq("WH-1"), eq(-3), eq(3), eq(0), any()))
+                .thenThrow(new InsufficientStockException("Resulting available quantity cannot be negative"));
+
+        List<OrderReservationResult> results = reservationService.reserveOrders(orders(line(1L, "SKU-1", 2), line(2L, "SKU-1", 3)));
+
+        assertThat(results.get(0).isReserved()).isTrue();
+        assertThat(results.get(1).isReserved()).isFalse();
+        assertThat(results.get(1).getReason()).startsWith("Insufficient stock for sku: SKU-1");
+    }
+
+    @Test
+    void returnsTheHoldsOfAnOrderThatFailsOnAnotherSku() {
+        when(stockLedger.applyNow(eq("SKU-1"), eq("WH-1"), anyInt(), anyInt(), eq(0), any())).thenAnswer(written());
+        when(stockLedger.applyNow(eq("SKU-2"), eq("WH-1"), anyInt(), anyInt(), eq(0), any()))
+                .thenThrow(new ResourceNotFoundException("No Resource Found with sku: SKU-2 and warehouse id: WH-1"));
+
+        List<OrderReservationResult> results = reservationService.reserveOrders(orders(line(1L, "SKU-1", 2), line(1L, "SKU-2", 1)));
+
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.isReserved()).isFalse();
+            assertThat(result.getReason()).isEqualTo("No Resource Found with sku: SKU-2 and warehouse id: WH-1");
+        });
+        verify(stockLedger).applyNow(eq("SKU-1"), eq("WH-1"), eq(2), eq(-2), eq(0), any());
+        verify(reservationBatchRepository).deleteAll(List.of("1:SKU-1:WH-1"));
+        assertThatThrownBy(() -> reservationService.getByOrder(1L)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void skipsOrdersThatAlreadyHoldStock() {
+        when(stockReservationRepository.findReservedOrderIds(any())).thenReturn(List.of(1L));
+
+        List<OrderReservationResult> results = reservationService.reserveOrders(orders(line(1L, "SKU-1", 2)));
+
+        assertThat(results).singleElement().satisfies(result -> assertThat(result.isDuplicate()).isTrue());
+        verify(stockLedger, never()).applyNow(anyString(), anyString(), anyInt(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void settlesAnOrderOnlyOnce() {
+        when(stockLedger.applyNow(anyString(), anyString(), anyInt(), anyInt(), anyInt(), any())).thenAnswer(written());
+        reservationService.reserveOrders(orders(line(1L, "SKU-1", 2)));
+
+        assertThat(reservationService.commit(1L)).singleElement()
+                .satisfies(response -> assertThat(response.getStatus()).isEqualTo(ReservationStatus.COMMITTED));
+
+        assertThatThrownBy(() -> reservationService.release(1L)).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> reservationService.commit(1L)).isInstanceOf(ResourceNotFoundException.class);
+        verify(stockLedger).applyNow(eq("SKU-1"), eq("WH-1"), eq(0), eq(-2), eq(0), any());
+        verify(stockLedger, never()).applyNow(eq("SKU-1"), eq("WH-1"), eq(2), eq(-2), eq(0), any());
+    }
+
+    @Test
+    void expiryReturnsTheStockOfElapsedHolds() {
+        when(stockLedger.applyNow(anyString(), anyString(), anyInt(), anyInt(), anyInt(), any())).thenAnswer(written());
+        ReserveStockRequest line = line(1L, "SKU-1", 2);
+        line.setTtlSeconds(0L);
+        reservationService.reserveOrders(orders(line));
+
+        reservationService.expireHolds();
+        reservationService.expireHolds();
+
+        verify(stockLedger).applyNow(eq("SKU-1"), eq("WH-1"), eq(2), eq(-2), eq(0), any());
+        ArgumentCaptor<List<StockReservation>> rows = ArgumentCaptor.captor();
+        verify(reservationBatchRepository, times(2)).upsertAll(rows.capture());
+        assertThat(rows.getValue()).singleElement()
+                .satisfies(row -> assertThat(row.getStatus()).isEqualTo(ReservationStatus.EXPIRED));
+        assertThatThrownBy(() -> reservationService.commit(1L)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void keepsAHoldThatFailsToExpireForTheNextSweep() {
+        when(stockLedger.applyNow(anyString(), anyString(), anyInt(), anyInt(), anyInt(), any()))
+                .thenAnswer(written())
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenAnswer(written());
+        ReserveStockRequest line = line(1L, "SKU-1", 2);
+        line.setTtlSeconds(0L);
+        reservationService.reserveOrders(orders(line));
+
+        reservationService.expireHolds();
+        assertThat(reservationService.getByOrder(1L)).singleElement()
+                .satisfies(response -> assertThat(response.getStatus()).isEqualTo(ReservationStatus.HELD));
+
+        reservationService.expireHolds();
+        verify(stockLedger, times(2)).applyNow(eq("SKU-1"), eq("WH-1"), eq(2), eq(-2), eq(0), any());
+        assertThatThrownBy(() -> reservationService.getByOrder(1L)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    // Runs the work handed to the ledger, as the real write transaction does.
+    private static Answer<InventoryItem> written() {
+        return invocation -> {
+            invocation.<Runnable>getArgument(5).run();
+            return InventoryItem.builder()
+                    .sku(invocation.getArgument(0))
+                    .warehouseId(invocation.getArgument(1))
+                    .availableQty(10)
+                    .build();
+        };
+    }
+
+    private static Map<Long, List<ReserveStockRequest>> orders(ReserveStockRequest... lines) {
+        Map<Long, List<ReserveStockRequest>> orders = new LinkedHashMap<>();
+        for (ReserveStockRequest line : lines) {
+            orders.computeIfAbsent(line.getOrderId(), k -> new ArrayList<>()).add(line);
+        }
+        return orders;
+    }
+
+    private static ReserveStockRequest line(Long orderId, String sku, int quantity) {
+        ReserveStockRequest line = new ReserveStockRequest();
+        line.setOrderId(orderId);
+        line.setSku(sku);
+        line.setWarehouseId("WH-1");
+        line.setQuantity(quantity);
+        return line;
+    }
+}
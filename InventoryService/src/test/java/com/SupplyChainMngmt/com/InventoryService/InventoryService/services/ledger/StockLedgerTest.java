@@ -0,0 +1,144 @@
+package com.SupplyChainMngmt.com.InventoryService.InventoryService.services.ledger;
+
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.entities.InventoryItem;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.exceptions.InsufficientStockException;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.repository.InventoryRepository;
+import com.SupplyChainMngmt.com.InventoryService.InventoryService.services.cache.InventoryCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StockLedgerTest {
+
+    private static final Long ID = 1L;
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+    @Mock
+    private InventoryCache inventoryCache;
+
+    private final AtomicInteger rollbacks = new AtomicInteger();
+    private StockLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        ledger = new StockLedger(inventoryRepository, inventoryCache, new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+                if (status.isRollbackOnly()) {
+                    rollbacks.incrementAndGet();
+                }
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+                rollbacks.incrementAndGet();
+            }
+        });
+        ReflectionTestUtils.setField(ledger, "batchSize", 500);
+        when(inventoryRepository.findBySkuAndWarehouseId("SKU-1", "WH-1")).thenReturn(Optional.of(row(10, 0)));
+    }
+
+    @Test
+    void applyRejectsAShortfallWithoutTouchingTheEntry() {
+        assertThatThrownBy(() -> ledger.apply("SKU-1", "WH-1", -11, 11, 0))
+                .isInstanceOf(InsufficientStockException.class);
+
+        assertThat(ledger.apply("SKU-1", "WH-1", -10, 10, 0).getAvailableQty()).isZero();
+    }
+
+    @Test
+    void applyNowWritesThePendingDeltaAndItsOwnTogether() {
+        when(inventoryRepository.applyStockDelta(eq(ID), anyInt(), anyInt(), anyInt(), any(Instant.class))).thenReturn(1);
+        ledger.apply("SKU-1", "WH-1", -2, 2, 0);
+        AtomicInteger work = new AtomicInteger();
+
+        InventoryItem saved = ledger.applyNow("SKU-1", "WH-1", -3, 3, 0, work::incrementAndGet);
+
+        assertThat(saved.getAvailableQty()).isEqualTo(5);
+        assertThat(saved.getReservedQty()).isEqualTo(5);
+        assertThat(work).hasValue(1);
+        verify(inventoryRepository).applyStockDelta(eq(ID), eq(-5), eq(5), eq(0), any(Instant.class));
+        // The pending delta went out with the reservation; the flush has nothing left to write.
+        assertThat(ledger.flush()).isZero();
+    }
+
+    @Test
+    void applyNowRechecksTheRowWhenItRefusesTheDelta() {
+        when(inventoryRepository.applyStockDelta(eq(ID), anyInt(), anyInt(), anyInt(), any(Instant.class)))
+                .thenReturn(0)
+                .thenReturn(1);
+        // Another replica reserved 3 since the entry was loaded.
+        when(inventoryRepository.findById(ID)).thenReturn(Optional.of(row(7, 3)));
+        AtomicInteger work = new AtomicInteger();
+
+        InventoryItem saved = ledger.applyNow("SKU-1", "WH-1", -5, 5, 0, work::incrementAndGet);
+
+        assertThat(saved.getAvailableQty()).isEqualTo(2);
+        assertThat(saved.getReservedQty()).isEqualTo(8);
+        assertThat(work).hasValue(1);
+        assertThat(rollbacks).hasValue(1);
+    }
+
+    @Test
+    void applyNowFailsWhenTheReloadedRowCannotCoverTheDelta() {
+        when(inventoryRepository.applyStockDelta(eq(ID), anyInt(), anyInt(), anyInt(), any(Instant.class))).thenReturn(0);
+        when(inventoryRepository.findById(ID)).thenReturn(Optional.of(row(2, 8)));
+        AtomicInteger work = new AtomicInteger();
+
+        assertThatThrownBy(() -> ledger.applyNow("SKU-1", "WH-1", -5, 5, 0, work::incrementAndGet))
+                .isInstanceOf(InsufficientStockException.class);
+
+        assertThat(work).hasValue(0);
+        verify(inventoryRepository).applyStockDelta(eq(ID), anyInt(), anyInt(), anyInt(), any(Instant.class));
+    }
+
+    @Test
+    void flushReloadsAnEntryWhoseRowRefusedTheDelta() {
+        when(inventoryRepository.applyStockDelta(eq(ID), anyInt(), anyInt(), anyInt(), any(Instant.class))).thenReturn(0);
+        when(inventoryRepository.findById(ID)).thenReturn(Optional.of(row(1, 9)));
+        ledger.apply("SKU-1", "WH-1", -3, 3, 0);
+
+        assertThat(ledger.flush()).isZero();
+
+        assertThatThrownBy(() -> ledger.apply("SKU-1", "WH-1", -2, 2, 0))
+                .isInstanceOf(InsufficientStockException.class);
+    }
+
+    private static InventoryItem row(int available, int reserved) {
+        return InventoryItem.builder()
+                .id(ID)
+                .sku("SKU-1")
+                .warehouseId("WH-1")
+                .availableQty(available)
+                .reservedQty(reserved)
+                .incomingQty(0)
+                .threshold(0)
+                .build();
+    }
+}
@@ -15,4 +15,16 @@ public class GlobalExceptionHandler {
         ApiResponse response = ApiResponse.builder().message(message).status(HttpStatus.NOT_FOUND).build();
         return new ResponseEntity<>(response,HttpStatus.NOT_FOUND);
     }
+
+    @ExceptionHandler(InvalidStatusTransitionException.class)
+    public ResponseEntity<?> InvalidStatusTransitionExceptionHandler(InvalidStatusTransitionException exception){
+        ApiResponse response = ApiResponse.builder().message(exception.getMessage()).status(HttpStatus.CONFLICT).build();
+        return new ResponseEntity<>(response,HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<?> IllegalArgumentExceptionHandler(IllegalArgumentException exception){
+        ApiResponse response = ApiResponse.builder().message(exception.getMessage()).status(HttpStatus.BAD_REQUEST).build();
+        return new ResponseEntity<>(response,HttpStatus.BAD_REQUEST);
+    }
 }
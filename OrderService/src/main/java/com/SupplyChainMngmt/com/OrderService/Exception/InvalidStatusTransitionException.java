@@ -0,0 +1,7 @@
+package com.SupplyChainMngmt.com.OrderService.Exception;
+
+public class InvalidStatusTransitionException extends RuntimeException {
+    public InvalidStatusTransitionException(String message) {
+        super(message);
+    }
+}
@@ -1,7 +1,10 @@
 package com.SupplyChainMngmt.com.OrderService.config;
 
-import com.SupplyChainMngmt.com.OrderService.event.OrderEvent;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import com.SupplyChainMngmt.com.OrderService.event.codec.AvroOrderEventCodec;
+import com.SupplyChainMngmt.com.OrderService.event.codec.JsonOrderEventCodec;
+import com.SupplyChainMngmt.com.OrderService.event.codec.OrderEventCodec;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -9,7 +12,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -20,19 +22,44 @@ public class KafkaProducerConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${app.kafka.producer.linger-ms:20}")
+    private int lingerMs;
+
+    @Value("${app.kafka.producer.batch-size:131072}")
+    private int batchSize;
+
+    @Value("${app.kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${app.events.order.encoding:json}")
+    private String orderEventEncoding;
+
     @Bean
-    public ProducerFactory<String, OrderEvent> orderEventProducerFactory(){
+    public OrderEventCodec orderEventCodec(){
+        return switch (orderEventEncoding) {
+            case "json" -> new JsonOrderEventCodec();
+            case "avro" -> new AvroOrderEventCodec();
+            default -> throw new IllegalStateException("Unknown app.events.order.encoding: " + orderEventEncoding);
+        };
+    }
+
+    // Order events are encoded when they are written to the outbox, so the producer only ships bytes.
+    @Bean
+    public ProducerFactory<String, byte[]> orderEventProducerFactory(){
         Map<String,Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-
-        config.put("spring.json.add.type.headers", false);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
         return new DefaultKafkaProducerFactory<>(config);
     }
 
     @Bean
-    public KafkaTemplate<String, OrderEvent> orderEventKafkaTemplate(){
+    public KafkaTemplate<String, byte[]> orderEventKafkaTemplate(){
         return new KafkaTemplate<>(orderEventProducerFactory());
     }
 }
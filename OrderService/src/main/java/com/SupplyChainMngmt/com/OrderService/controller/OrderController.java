@@ -1,13 +1,27 @@
 package com.SupplyChainMngmt.com.OrderService.controller;
 
+import com.SupplyChainMngmt.com.OrderService.dto.requestDto.BatchStatusTransitionRequest;
 import com.SupplyChainMngmt.com.OrderService.dto.requestDto.CreateOrderRequest;
 import com.SupplyChainMngmt.com.OrderService.dto.requestDto.UpdateOrderStatusRequest;
+import com.SupplyChainMngmt.com.OrderService.dto.resposneDto.BatchStatusTransitionResponse;
+import com.SupplyChainMngmt.com.OrderService.dto.resposneDto.BulkOrderResponse;
+import com.SupplyChainMngmt.com.OrderService.dto.resposneDto.OrderPageResponse;
 import com.SupplyChainMngmt.com.OrderService.dto.resposneDto.OrderResponse;
+import com.SupplyChainMngmt.com.OrderService.entities.type.OrderStatus;
 import com.SupplyChainMngmt.com.OrderService.service.OrderService;
+import com.SupplyChainMngmt.com.OrderService.service.idempotency.IdempotentOrderService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 
 @RestController
@@ -16,13 +30,25 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final IdempotentOrderService idempotentOrderService;
 
     @PostMapping
-    public ResponseEntity<OrderResponse> createOrder(@RequestBody CreateOrderRequest request){
-        OrderResponse response = orderService.createOrder(request);
+    public ResponseEntity<OrderResponse> createOrder(@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                                     @RequestBody CreateOrderRequest request){
+        OrderResponse response = idempotencyKey == null || idempotencyKey.isBlank()
+                ? orderService.createOrder(request)
+                : idempotentOrderService.createOrder(idempotencyKey, request);
         return  ResponseEntity.ok(response);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkOrderResponse> createOrdersBulk(InputStream body) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            BulkOrderResponse response = orderService.createOrdersBulk(reader.lines());
+            return ResponseEntity.ok(response);
+        }
+    }
+
     @GetMapping("/{id}")
     public  ResponseEntity<OrderResponse> getOrder(@PathVariable Long id){
         OrderResponse order = orderService.getOrderById(id);
@@ -35,12 +61,29 @@ public class OrderController {
         return ResponseEntity.ok(orderResponseList);
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<OrderPageResponse> searchOrders(@RequestParam(required = false) String customerId,
+                                                          @RequestParam(required = false) OrderStatus status,
+                                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(required = false) Integer limit){
+        OrderPageResponse response = orderService.searchOrders(customerId, status, from, to, cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
     @PatchMapping("/{id}/status")
     public ResponseEntity<OrderResponse> updateStatus(@PathVariable Long id, @RequestBody UpdateOrderStatusRequest request){
         OrderResponse response = orderService.updateOrderStatus(id,request);
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping("/status/batch")
+    public ResponseEntity<BatchStatusTransitionResponse> transitionOrders(@RequestBody BatchStatusTransitionRequest request){
+        BatchStatusTransitionResponse response = orderService.transitionOrders(request);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteOrder(@PathVariable Long id){
         orderService.deleteOrder(id);
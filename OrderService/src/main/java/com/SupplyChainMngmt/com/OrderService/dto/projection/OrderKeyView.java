@@ -0,0 +1,9 @@
+package com.SupplyChainMngmt.com.OrderService.dto.projection;
+
+import java.time.Instant;
+
+/**
+ * Keyset position of an order; both columns are served from the secondary indexes on orders.
+ */
+public record OrderKeyView(Long id, Instant createdAt) {
+}
@@ -0,0 +1,25 @@
+package com.SupplyChainMngmt.com.OrderService.dto.projection;
+
+import com.SupplyChainMngmt.com.OrderService.entities.type.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * One row of an order left-joined to its items; item columns are null for orders without items.
+ */
+public record OrderLineView(
+        Long orderId,
+        String customerId,
+        OrderStatus status,
+        BigDecimal totalAmount,
+        Instant createdAt,
+        Instant updatedAt,
+        Long itemId,
+        String sku,
+        Integer quantity,
+        BigDecimal unitPrice,
+        BigDecimal discountAmount,
+        BigDecimal taxAmount
+) {
+}
@@ -0,0 +1,12 @@
+package com.SupplyChainMngmt.com.OrderService.dto.requestDto;
+
+import com.SupplyChainMngmt.com.OrderService.entities.type.OrderStatus;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchStatusTransitionRequest {
+    private List<Long> orderIds;
+    private OrderStatus status;
+}
@@ -2,11 +2,11 @@ package com.SupplyChainMngmt.com.OrderService.dto.requestDto;
 
 import lombok.Data;
 
-import java.util.List;
+import java.math.BigDecimal;
 
 @Data
 public class OrderItemRequest {
     private String sku;
     private Integer quantity;
-    private Double unitPrice;
+    private BigDecimal unitPrice;
 }
@@ -0,0 +1,17 @@
+package com.SupplyChainMngmt.com.OrderService.dto.resposneDto;
+
+import com.SupplyChainMngmt.com.OrderService.entities.type.OrderStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BatchStatusTransitionResponse {
+    private OrderStatus status;
+    private int requested;
+    private int updated;
+    private List<Long> updatedIds;
+    private List<Long> skippedIds;
+}
@@ -0,0 +1,20 @@
+package com.SupplyChainMngmt.com.OrderService.dto.resposneDto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BulkOrderChunkResult {
+    private int chunk;
+    private int firstLine;
+    private int lastLine;
+    private int created;
+    private int failed;
+    private long elapsedMs;
+    private double ordersPerSecond;
+    private List<Long> orderIds;
+    private List<BulkOrderLineFailure> failures;
+}
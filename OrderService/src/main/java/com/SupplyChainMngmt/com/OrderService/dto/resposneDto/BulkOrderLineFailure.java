@@ -0,0 +1,11 @@
+package com.SupplyChainMngmt.com.OrderService.dto.resposneDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BulkOrderLineFailure {
+    private int line;
+    private String error;
+}
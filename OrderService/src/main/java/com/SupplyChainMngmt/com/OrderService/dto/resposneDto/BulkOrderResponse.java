@@ -0,0 +1,16 @@
+package com.SupplyChainMngmt.com.OrderService.dto.resposneDto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BulkOrderResponse {
+    private int lines;
+    private int created;
+    private int failed;
+    private long elapsedMs;
+    private List<BulkOrderChunkResult> chunks;
+}
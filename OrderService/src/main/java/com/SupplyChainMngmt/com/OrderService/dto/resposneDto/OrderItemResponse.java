@@ -1,13 +1,21 @@
 package com.SupplyChainMngmt.com.OrderService.dto.resposneDto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class OrderItemResponse {
     private Long id;
     private String sku;
     private Integer quantity;
-    private Double unitPrice;
+    private BigDecimal unitPrice;
+    private BigDecimal discountAmount;
+    private BigDecimal taxAmount;
 }
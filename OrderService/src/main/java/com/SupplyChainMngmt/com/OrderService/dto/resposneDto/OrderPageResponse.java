@@ -0,0 +1,14 @@
+package com.SupplyChainMngmt.com.OrderService.dto.resposneDto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class OrderPageResponse {
+    private List<OrderResponse> orders;
+    private String nextCursor;
+    private boolean hasMore;
+}
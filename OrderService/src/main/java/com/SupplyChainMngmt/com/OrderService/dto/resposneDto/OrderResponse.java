@@ -1,19 +1,24 @@
 package com.SupplyChainMngmt.com.OrderService.dto.resposneDto;
 
 import com.SupplyChainMngmt.com.OrderService.entities.type.OrderStatus;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class OrderResponse {
     private Long id;
     private String customerId;
     private OrderStatus status;
-    private Double totalAmount;
+    private BigDecimal totalAmount;
     private Instant createdAt;
     private Instant updatedAt;
     private List<OrderItemResponse> items;
@@ -0,0 +1,33 @@
+package com.SupplyChainMngmt.com.OrderService.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "order_idempotency_key", indexes = {
+        @Index(name = "idx_order_idempotency_key_created", columnList = "created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderIdempotencyKey {
+    @Id
+    @Column(name = "idempotency_key", length = 128)
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    private Long orderId;
+
+    @Lob
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String response;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+}
@@ -1,9 +1,38 @@
 package com.SupplyChainMngmt.com.OrderService.entities.type;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum OrderStatus {
     CREATED,
     CONFIRMED,
     SHIPPED,
     DELIVERED,
-    CANCELLED
+    CANCELLED;
+
+    private static final Map<OrderStatus, Set<OrderStatus>> PREDECESSORS = new EnumMap<>(OrderStatus.class);
+
+    // Shipment updates can skip intermediate states, so SHIPPED and DELIVERED are reachable from any
+    // earlier non-cancelled state. DELIVERED and CANCELLED are terminal.
+    static {
+        PREDECESSORS.put(CREATED, Collections.unmodifiableSet(EnumSet.noneOf(OrderStatus.class)));
+        PREDECESSORS.put(CONFIRMED, Collections.unmodifiableSet(EnumSet.of(CREATED)));
+        PREDECESSORS.put(SHIPPED, Collections.unmodifiableSet(EnumSet.of(CREATED, CONFIRMED)));
+        PREDECESSORS.put(DELIVERED, Collections.unmodifiableSet(EnumSet.of(CREATED, CONFIRMED, SHIPPED)));
+        PREDECESSORS.put(CANCELLED, Collections.unmodifiableSet(EnumSet.of(CREATED, CONFIRMED)));
+    }
+
+    /**
+     * States an order may move to this state from.
+     */
+    public Set<OrderStatus> predecessors() {
+        return PREDECESSORS.get(this);
+    }
+
+    public boolean canTransitionTo(OrderStatus target) {
+        return target.predecessors().contains(this);
+    }
 }
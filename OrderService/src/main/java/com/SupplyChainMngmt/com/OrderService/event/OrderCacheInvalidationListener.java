@@ -0,0 +1,63 @@
+package com.SupplyChainMngmt.com.OrderService.event;
+
+import com.SupplyChainMngmt.com.OrderService.event.codec.AvroOrderEventCodec;
+import com.SupplyChainMngmt.com.OrderService.event.codec.JsonOrderEventCodec;
+import com.SupplyChainMngmt.com.OrderService.event.codec.OrderEventCodec;
+import com.SupplyChainMngmt.com.OrderService.service.cache.OrderCache;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the local order cache in line with changes made on other replicas. Every instance uses its
+ * own consumer group so it sees all of order.events, starting from the latest offset.
+ */
+@Component
+@Slf4j
+public class OrderCacheInvalidationListener {
+
+    private final OrderCache orderCache;
+    private final OrderEventCodec defaultCodec = new JsonOrderEventCodec();
+    private final Map<String, OrderEventCodec> codecs = Stream.of(defaultCodec, new AvroOrderEventCodec())
+            .collect(Collectors.toMap(OrderEventCodec::contentType, Function.identity()));
+
+    public OrderCacheInvalidationListener(OrderCache orderCache) {
+        this.orderCache = orderCache;
+    }
+
+    @KafkaListener(topics = "${app.topics.order-events:order.events}",
+            groupId = "order-service-cache-#{T(java.util.UUID).randomUUID()}",
+            containerFactory = "batchListenerContainerFactory",
+            autoStartup = "${app.orders.cache.enabled:true}",
+            properties = "auto.offset.reset=latest")
+    public void onOrderEvents(List<ConsumerRecord<String, byte[]>> records){
+        for (ConsumerRecord<String, byte[]> record : records) {
+            OrderEvent event = decode(record);
+            if (event != null && event.getOrderId() != null) {
+                orderCache.onOrderEvent(event.getOrderId(), event.getStatus(), event.getEventTime());
+            }
+        }
+    }
+
+    private OrderEvent decode(ConsumerRecord<String, byte[]> record) {
+        Header header = record.headers().lastHeader(OrderEventCodec.CONTENT_TYPE_HEADER);
+        OrderEventCodec codec = header == null
+                ? defaultCodec
+                : codecs.getOrDefault(new String(header.value(), StandardCharsets.UTF_8), defaultCodec);
+        try {
+            return codec.decode(record.value());
+        } catch (RuntimeException e) {
+            log.warn("Skipping unreadable order event at offset {}", record.offset(), e);
+            return null;
+        }
+    }
+}
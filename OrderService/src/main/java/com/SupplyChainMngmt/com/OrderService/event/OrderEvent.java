@@ -1,26 +1,33 @@
 package com.SupplyChainMngmt.com.OrderService.event;
 
 import com.SupplyChainMngmt.com.OrderService.entities.type.OrderStatus;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class OrderEvent {
     private String eventType;
     private Long orderId;
     private String customerId;
     private OrderStatus status;
-    private Double totalAmount;
+    private BigDecimal totalAmount;
     private List<OrderItemSummary> items;
     private Instant createdAt;
     private Instant eventTime;
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class OrderItemSummary {
         private String sku;
         private Integer quantity;
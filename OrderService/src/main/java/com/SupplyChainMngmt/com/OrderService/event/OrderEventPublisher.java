@@ -2,55 +2,104 @@ package com.SupplyChainMngmt.com.OrderService.event;
 
 import com.SupplyChainMngmt.com.OrderService.entities.Order;
 import com.SupplyChainMngmt.com.OrderService.entities.OrderItem;
+import com.SupplyChainMngmt.com.OrderService.entities.OrderOutboxEvent;
+import com.SupplyChainMngmt.com.OrderService.entities.type.OrderStatus;
+import com.SupplyChainMngmt.com.OrderService.event.codec.OrderEventCodec;
+import com.SupplyChainMngmt.com.OrderService.repositories.OrderBatchRepository;
+import com.SupplyChainMngmt.com.OrderService.repositories.OrderOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * Records order events in the outbox table as part of the caller's transaction; {@link OrderOutboxRelay}
+ * delivers them to Kafka after commit. ORDER_CREATED carries the full order, ORDER_STATUS_UPDATED is a
+ * delta with just the order id, customer and new status.
+ */
 @Service
 @RequiredArgsConstructor
 public class OrderEventPublisher {
 
-    private final KafkaTemplate<String, OrderEvent> kafkaTemplate;
+    private final OrderOutboxRepository outboxRepository;
+    private final OrderBatchRepository orderBatchRepository;
+    private final OrderEventCodec orderEventCodec;
 
     @Value("${app.topics.order-events:order.events}")
     private String orderEventsTopics;
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishOrderCreated(Order order){
-        OrderEvent event = OrderEvent.builder()
+        outboxRepository.save(toOutboxEvent(orderCreated(order, Instant.now())));
+    }
+
+    /**
+     * Queues ORDER_CREATED for every order with a single batched outbox insert.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishOrdersCreated(List<Order> orders){
+        Instant now = Instant.now();
+        orderBatchRepository.insertOutboxEvents(orders.stream()
+                .map(order -> toOutboxEvent(orderCreated(order, now)))
+                .toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishOrderStatusUpdate(Order order){
+        outboxRepository.save(toOutboxEvent(statusUpdated(order.getId(), order.getCustomerId(), order.getStatus(), Instant.now())));
+    }
+
+    /**
+     * Queues ORDER_STATUS_UPDATED for every order with a single batched outbox insert. The orders
+     * themselves are not loaded.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishOrderStatusUpdates(List<Long> orderIds, OrderStatus status){
+        Instant now = Instant.now();
+        orderBatchRepository.insertOutboxEvents(orderIds.stream()
+                .map(orderId -> toOutboxEvent(statusUpdated(orderId, null, status, now)))
+                .toList());
+    }
+
+    private OrderEvent orderCreated(Order order, Instant eventTime){
+        return OrderEvent.builder()
                 .eventType("ORDER_CREATED")
                 .orderId(order.getId())
                 .customerId(order.getCustomerId())
                 .status(order.getStatus())
                 .totalAmount(order.getTotalAmount())
                 .createdAt(order.getCreatedAt())
-                .eventTime(Instant.now())
+                .eventTime(eventTime)
                 .items(order.getItems().stream()
                         .map(this::mapItem)
                         .collect(Collectors.toList()))
                 .build();
-
-        kafkaTemplate.send(orderEventsTopics, String.valueOf(order.getId()), event);
     }
 
-    public void publishOrderStatusUpdate(Order order){
-        OrderEvent event = OrderEvent.builder()
+    private OrderEvent statusUpdated(Long orderId, String customerId, OrderStatus status, Instant eventTime){
+        return OrderEvent.builder()
                 .eventType("ORDER_STATUS_UPDATED")
-                .orderId(order.getId())
-                .customerId(order.getCustomerId())
-                .status(order.getStatus())
-                .totalAmount(order.getTotalAmount())
-                .createdAt(order.getCreatedAt())
-                .eventTime(Instant.now())
-                .items(order.getItems().stream()
-                        .map(this::mapItem)
-                        .collect(Collectors.toList()))
+                .orderId(orderId)
+                .customerId(customerId)
+                .status(status)
+                .eventTime(eventTime)
                 .build();
+    }
 
-        kafkaTemplate.send(orderEventsTopics, String.valueOf(order.getId()), event);
+    private OrderOutboxEvent toOutboxEvent(OrderEvent event){
+        return OrderOutboxEvent.builder()
+                .topic(orderEventsTopics)
+                .messageKey(String.valueOf(event.getOrderId()))
+                .eventType(event.getEventType())
+                .contentType(orderEventCodec.contentType())
+                .payload(orderEventCodec.encode(event))
+                .createdAt(event.getEventTime())
+                .build();
     }
 
     private OrderEvent.OrderItemSummary mapItem(OrderItem item){
@@ -0,0 +1,127 @@
+package com.SupplyChainMngmt.com.OrderService.event;
+
+import com.SupplyChainMngmt.com.OrderService.entities.OrderOutboxEvent;
+import com.SupplyChainMngmt.com.OrderService.event.codec.OrderEventCodec;
+import com.SupplyChainMngmt.com.OrderService.repositories.OrderOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the order outbox to Kafka.
+ *
+ * Each pass locks the oldest pending rows, hands the whole batch to the producer so it can fill
+ * large compressed record batches, waits for every ack and then deletes the rows in one statement.
+ * A failed send rolls the transaction back and the rows are picked up again on the next pass, so
+ * delivery is at-least-once; consumers already key their handling on the order id.
+ *
+ * Only one relay drains at a time across all instances: the batch lock is taken from the head of
+ * the outbox without waiting, and an instance that finds it held skips the pass. This keeps the
+ * events of each order in outbox order on the topic.
+ */
+@Component
+@Slf4j
+public class OrderOutboxRelay {
+
+    private final OrderOutboxRepository outboxRepository;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    @Value("${app.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.outbox.send-timeout-ms:30000}")
+    private long sendTimeoutMs;
+
+    public OrderOutboxRelay(OrderOutboxRepository outboxRepository, KafkaTemplate<String, byte[]> kafkaTemplate,
+                            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.publishedCounter = Counter.builder("order.outbox.published")
+                .description("Outbox events delivered to Kafka")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("order.outbox.failed")
+                .description("Outbox relay batches that failed and will be retried")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("order.outbox.batch")
+                .description("Time to publish and remove one outbox batch")
+                .register(meterRegistry);
+        Gauge.builder("order.outbox.lag", lagMillis, AtomicLong::get)
+                .description("Age in milliseconds of the oldest event in the last relayed batch")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:100}")
+    public void relay() {
+        int relayed;
+        do {
+            try {
+                relayed = batchTimer.record(() -> transactionTemplate.execute(status -> relayBatch()));
+            } catch (PessimisticLockingFailureException e) {
+                log.debug("Order outbox is being relayed by another instance");
+                return;
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                log.error("Failed to relay order outbox batch, will retry", e);
+                return;
+            }
+        } while (relayed == batchSize);
+    }
+
+    private int relayBatch() {
+        List<OrderOutboxEvent> batch = outboxRepository.lockNextBatch(Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            lagMillis.set(0);
+            return 0;
+        }
+        lagMillis.set(Duration.between(batch.get(0).getCreatedAt(), Instant.now()).toMillis());
+
+        CompletableFuture<?>[] sends = batch.stream()
+                .map(e -> kafkaTemplate.send(toRecord(e)))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(sends).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing outbox batch", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to publish outbox batch of " + batch.size(), e);
+        }
+
+        outboxRepository.deleteAllByIdInBatch(batch.stream().map(OrderOutboxEvent::getId).toList());
+        publishedCounter.increment(batch.size());
+        return batch.size();
+    }
+
+    private static ProducerRecord<String, byte[]> toRecord(OrderOutboxEvent event) {
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(event.getTopic(), event.getMessageKey(), event.getPayload());
+        record.headers().add(OrderEventCodec.CONTENT_TYPE_HEADER, event.getContentType().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+}
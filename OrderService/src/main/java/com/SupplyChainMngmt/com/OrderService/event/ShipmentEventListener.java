@@ -0,0 +1,165 @@
+package com.SupplyChainMngmt.com.OrderService.event;
+
+import com.SupplyChainMngmt.com.OrderService.dto.requestDto.BatchStatusTransitionRequest;
+import com.SupplyChainMngmt.com.OrderService.dto.resposneDto.BatchStatusTransitionResponse;
+import com.SupplyChainMngmt.com.OrderService.entities.type.OrderStatus;
+import com.SupplyChainMngmt.com.OrderService.service.OrderService;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Projects shipment progress onto order status.
+ *
+ * Only the few fields needed are pulled from each record with a streaming parser, and location
+ * updates are dropped as soon as their event type is read. Within a poll every order collapses to
+ * the furthest status reported for it, and each target status is applied with one batch of
+ * conditional updates, so replays and out of order events never move an order backwards.
+ */
+@Component
+@Slf4j
+public class ShipmentEventListener {
+
+    private static final String LOCATION_UPDATED = "SHIPMENT_LOCATION_UPDATED";
+
+    private record ShipmentProgress(String eventType, Long orderId, String status, Instant eventTime) {
+    }
+
+    private final OrderService orderService;
+    private final ObjectMapper objectMapper;
+    private final Timer applyTimer;
+    private final Timer eventLag;
+    private final Counter filteredCounter;
+    private final Counter appliedCounter;
+
+    public ShipmentEventListener(OrderService orderService, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.orderService = orderService;
+        this.objectMapper = objectMapper;
+        this.applyTimer = Timer.builder("order.shipment.apply")
+                .description("Time to apply one poll of shipment events to orders")
+                .register(meterRegistry);
+        this.eventLag = Timer.builder("order.shipment.event.lag")
+                .description("Delay between a shipment event being produced and applied to its order")
+                .register(meterRegistry);
+        this.filteredCounter = Counter.builder("order.shipment.events.filtered")
+                .description("Shipment events skipped without affecting order status")
+                .register(meterRegistry);
+        this.appliedCounter = Counter.builder("order.shipment.orders.updated")
+                .description("Orders whose status changed because of shipment events")
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(topics = "${app.topics.shipment-events:shipment.events}",
+            groupId = "${spring.kafka.consumer.group-id:order-service-group}",
+            containerFactory = "batchListenerContainerFactory")
+    public void onShipmentEvents(@Payload List<byte[]> messages){
+        Map<Long, OrderStatus> targets = new HashMap<>();
+        Map<Long, Instant> eventTimes = new HashMap<>();
+        for (byte[] message : messages) {
+            ShipmentProgress progress = parse(message);
+            OrderStatus target = progress == null ? null : toOrderStatus(progress);
+            if (target == null) {
+                filteredCounter.increment();
+                continue;
+            }
+            targets.merge(progress.orderId(), target, (a, b) -> a.compareTo(b) >= 0 ? a : b);
+            if (progress.eventTime() != null) {
+                eventTimes.merge(progress.orderId(), progress.eventTime(), (a, b) -> a.isBefore(b) ? a : b);
+            }
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        Map<OrderStatus, List<Long>> byStatus = new EnumMap<>(OrderStatus.class);
+        targets.forEach((orderId, status) -> byStatus.computeIfAbsent(status, s -> new ArrayList<>()).add(orderId));
+        applyTimer.record(() -> byStatus.forEach(this::apply));
+
+        Instant now = Instant.now();
+        eventTimes.values().forEach(produced -> eventLag.record(Duration.between(produced, now)));
+    }
+
+    private void apply(OrderStatus status, List<Long> orderIds) {
+        BatchStatusTransitionRequest request = new BatchStatusTransitionRequest();
+        request.setStatus(status);
+        request.setOrderIds(orderIds);
+        BatchStatusTransitionResponse response = orderService.transitionOrders(request);
+        appliedCounter.increment(response.getUpdated());
+        log.debug("Shipment events moved {} of {} orders to {}", response.getUpdated(), orderIds.size(), status);
+    }
+
+    private static OrderStatus toOrderStatus(ShipmentProgress progress) {
+        if (progress.orderId() == null || progress.status() == null || LOCATION_UPDATED.equals(progress.eventType())) {
+            return null;
+        }
+        return switch (progress.status()) {
+            case "PICKED_UP", "IN_TRANSIT" -> OrderStatus.SHIPPED;
+            case "DELIVERED" -> OrderStatus.DELIVERED;
+            default -> null;
+        };
+    }
+
+    // Reads eventType, orderId, status and eventTime without binding the whole event; returns as soon
+    // as the record turns out to be a location update.
+    private ShipmentProgress parse(byte[] message) {
+        String eventType = null;
+        Long orderId = null;
+        String status = null;
+        Instant eventTime = null;
+        try (JsonParser parser = objectMapper.getFactory().createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "eventType" -> {
+                        eventType = parser.getValueAsString();
+                        if (LOCATION_UPDATED.equals(eventType)) {
+                            return new ShipmentProgress(eventType, null, null, null);
+                        }
+                    }
+                    case "orderId" -> orderId = value == JsonToken.VALUE_NULL ? null : parser.getValueAsLong();
+                    case "status" -> status = parser.getValueAsString();
+                    case "eventTime" -> eventTime = readInstant(parser, value);
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Skipping unreadable shipment event", e);
+            return null;
+        }
+        return new ShipmentProgress(eventType, orderId, status, eventTime);
+    }
+
+    // JsonSerializer writes Instants as epoch seconds with a fraction; ISO strings are accepted too.
+    private static Instant readInstant(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_FLOAT || value == JsonToken.VALUE_NUMBER_INT) {
+            BigDecimal seconds = parser.getDecimalValue();
+            return Instant.ofEpochSecond(seconds.longValue(),
+                    seconds.remainder(BigDecimal.ONE).movePointRight(9).longValue());
+        }
+        if (value == JsonToken.VALUE_STRING) {
+            return Instant.parse(parser.getText());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,128 @@
+package com.SupplyChainMngmt.com.OrderService.event.codec;
+
+import com.SupplyChainMngmt.com.OrderService.entities.type.OrderStatus;
+import com.SupplyChainMngmt.com.OrderService.event.OrderEvent;
+import org.apache.avro.Conversions;
+import org.apache.avro.Schema;
+import org.apache.avro.data.TimeConversions;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.BinaryMessageEncoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Avro single-object encoding of order events. Every payload starts with the fingerprint of the
+ * schema it was written with, so readers resolve older or newer versions against the schemas they
+ * know (register them with {@link BinaryMessageDecoder#addSchema}) without a schema registry.
+ */
+public class AvroOrderEventCodec implements OrderEventCodec {
+
+    public static final String SCHEMA_RESOURCE = "/avro/order-event-v1.avsc";
+
+    private final Schema schema;
+    private final Schema itemSchema;
+    private final Schema eventTypeSchema;
+    private final Schema statusSchema;
+    private final BinaryMessageEncoder<GenericRecord> encoder;
+    private final BinaryMessageDecoder<GenericRecord> decoder;
+
+    public AvroOrderEventCodec() {
+        this.schema = loadSchema(SCHEMA_RESOURCE);
+        this.itemSchema = schema.getField("items").schema().getTypes().get(1).getElementType();
+        this.eventTypeSchema = schema.getField("eventType").schema();
+        this.statusSchema = schema.getField("status").schema().getTypes().get(1);
+
+        GenericData model = new GenericData();
+        model.addLogicalTypeConversion(new Conversions.DecimalConversion());
+        model.addLogicalTypeConversion(new TimeConversions.TimestampMicrosConversion());
+        this.encoder = new BinaryMessageEncoder<>(model, schema);
+        this.decoder = new BinaryMessageDecoder<>(model, schema);
+    }
+
+    @Override
+    public String contentType() {
+        return "application/vnd.order-event.v1+avro";
+    }
+
+    @Override
+    public byte[] encode(OrderEvent event) {
+        GenericRecord record = new GenericData.Record(schema);
+        record.put("eventType", new GenericData.EnumSymbol(eventTypeSchema, event.getEventType()));
+        record.put("orderId", event.getOrderId());
+        record.put("customerId", event.getCustomerId());
+        record.put("status", event.getStatus() == null ? null : new GenericData.EnumSymbol(statusSchema, event.getStatus().name()));
+        record.put("totalAmount", event.getTotalAmount() == null ? null : event.getTotalAmount().setScale(2));
+        record.put("createdAt", event.getCreatedAt());
+        record.put("eventTime", event.getEventTime());
+        if (event.getItems() != null) {
+            List<GenericRecord> items = new ArrayList<>(event.getItems().size());
+            for (OrderEvent.OrderItemSummary item : event.getItems()) {
+                GenericRecord itemRecord = new GenericData.Record(itemSchema);
+                itemRecord.put("sku", item.getSku());
+                itemRecord.put("quantity", item.getQuantity());
+                items.add(itemRecord);
+            }
+            record.put("items", items);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        try {
+            encoder.encode(record, out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not encode order event for order " + event.getOrderId(), e);
+        }
+    }
+
+    @Override
+    public OrderEvent decode(byte[] payload) {
+        GenericRecord record;
+        try {
+            record = decoder.decode(payload);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unreadable Avro order event", e);
+        }
+        Object status = record.get("status");
+        Object items = record.get("items");
+        List<OrderEvent.OrderItemSummary> summaries = null;
+        if (items != null) {
+            summaries = new ArrayList<>();
+            for (Object item : (List<?>) items) {
+                GenericRecord itemRecord = (GenericRecord) item;
+                summaries.add(OrderEvent.OrderItemSummary.builder()
+                        .sku(itemRecord.get("sku").toString())
+                        .quantity((Integer) itemRecord.get("quantity"))
+                        .build());
+            }
+        }
+        return OrderEvent.builder()
+                .eventType(record.get("eventType").toString())
+                .orderId((Long) record.get("orderId"))
+                .customerId(record.get("customerId") == null ? null : record.get("customerId").toString())
+                .status(status == null ? null : OrderStatus.valueOf(status.toString()))
+                .totalAmount((BigDecimal) record.get("totalAmount"))
+                .items(summaries)
+                .createdAt((Instant) record.get("createdAt"))
+                .eventTime((Instant) record.get("eventTime"))
+                .build();
+    }
+
+    private static Schema loadSchema(String resource) {
+        try (InputStream in = AvroOrderEventCodec.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing Avro schema " + resource);
+            }
+            return new Schema.Parser().parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read Avro schema " + resource, e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.SupplyChainMngmt.com.OrderService.event.codec;
+
+import com.SupplyChainMngmt.com.OrderService.event.OrderEvent;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.io.IOException;
+
+/**
+ * The original JSON format, written with the same mapper configuration as spring-kafka's
+ * JsonSerializer. Null fields are omitted so status deltas stay small.
+ */
+public class JsonOrderEventCodec implements OrderEventCodec {
+
+    private static final ObjectMapper MAPPER = JacksonUtils.enhancedObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    @Override
+    public String contentType() {
+        return "application/json";
+    }
+
+    @Override
+    public byte[] encode(OrderEvent event) {
+        try {
+            return MAPPER.writeValueAsBytes(event);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not serialize order event for order " + event.getOrderId(), e);
+        }
+    }
+
+    @Override
+    public OrderEvent decode(byte[] payload) {
+        try {
+            return MAPPER.readValue(payload, OrderEvent.class);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unreadable JSON order event", e);
+        }
+    }
+}
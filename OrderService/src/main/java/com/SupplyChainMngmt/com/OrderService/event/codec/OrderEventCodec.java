@@ -0,0 +1,18 @@
+package com.SupplyChainMngmt.com.OrderService.event.codec;
+
+import com.SupplyChainMngmt.com.OrderService.event.OrderEvent;
+
+/**
+ * Wire format of order.events records. The content type travels in the {@link #CONTENT_TYPE_HEADER}
+ * record header so consumers can pick the matching decoder.
+ */
+public interface OrderEventCodec {
+
+    String CONTENT_TYPE_HEADER = "content-type";
+
+    String contentType();
+
+    byte[] encode(OrderEvent event);
+
+    OrderEvent decode(byte[] payload);
+}
@@ -0,0 +1,122 @@
+package com.SupplyChainMngmt.com.OrderService.repositories;
+
+import com.SupplyChainMngmt.com.OrderService.entities.Order;
+import com.SupplyChainMngmt.com.OrderService.entities.OrderItem;
+import com.SupplyChainMngmt.com.OrderService.entities.OrderOutboxEvent;
+import com.SupplyChainMngmt.com.OrderService.entities.type.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Plain JDBC inserts for bulk ingestion. Order ids use IDENTITY generation, which disables Hibernate
+ * insert batching, so chunks are written as JDBC batches (rewritten into multi-row inserts by the
+ * driver) and the generated keys are read back to link items and events to their orders.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_ORDER_SQL =
+            "insert into orders (customer_id, status, total_amount, created_at, updated_at) values (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ITEM_SQL =
+            "insert into order_items (order_id, sku, quantity, unit_price, discount_amount, tax_amount) values (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_OUTBOX_SQL =
+            "insert into order_outbox (topic, message_key, event_type, content_type, payload, created_at) values (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the orders and sets their generated ids, in list order.
+     */
+    public void insertOrders(List<Order> orders) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_ORDER_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Order order : orders) {
+                    ps.setString(1, order.getCustomerId());
+                    ps.setString(2, order.getStatus().name());
+                    ps.setBigDecimal(3, order.getTotalAmount());
+                    ps.setTimestamp(4, Timestamp.from(order.getCreatedAt()));
+                    ps.setTimestamp(5, Timestamp.from(order.getUpdatedAt()));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                int i = 0;
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        orders.get(i++).setId(keys.getLong(1));
+                    }
+                }
+                if (i != orders.size()) {
+                    throw new IllegalStateException("Expected " + orders.size() + " generated order ids but got " + i);
+                }
+            }
+            return null;
+        });
+    }
+
+    public void insertItems(List<Order> orders) {
+        List<OrderItem> items = orders.stream().flatMap(order -> order.getItems().stream()).toList();
+        jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, items, BATCH_SIZE, (ps, item) -> {
+            ps.setLong(1, item.getOrder().getId());
+            ps.setString(2, item.getSku());
+            ps.setInt(3, item.getQuantity());
+            ps.setBigDecimal(4, item.getUnitPrice());
+            ps.setBigDecimal(5, item.getDiscountAmount());
+            ps.setBigDecimal(6, item.getTaxAmount());
+        });
+    }
+
+    /**
+     * Moves each order to the given status if it is currently in one of the allowed predecessor
+     * states. Returns the number of rows changed per id, in list order; zero means the order is
+     * missing or not in an allowed state.
+     */
+    public int[] transitionStatus(List<Long> ids, OrderStatus status, Collection<OrderStatus> from, Instant now) {
+        String sql = "update orders set status = ?, updated_at = ? where id = ? and status in ("
+                + String.join(", ", Collections.nCopies(from.size(), "?")) + ")";
+        Timestamp updatedAt = Timestamp.from(now);
+        int[][] counts = jdbcTemplate.batchUpdate(sql, ids, BATCH_SIZE, (ps, id) -> {
+            int index = 1;
+            ps.setString(index++, status.name());
+            ps.setTimestamp(index++, updatedAt);
+            ps.setLong(index++, id);
+            for (OrderStatus predecessor : from) {
+                ps.setString(index++, predecessor.name());
+            }
+        });
+        int[] result = new int[ids.size()];
+        int i = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                result[i++] = count;
+            }
+        }
+        return result;
+    }
+
+    public void insertOutboxEvents(List<OrderOutboxEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_SQL, events, BATCH_SIZE, (ps, event) -> {
+            ps.setString(1, event.getTopic());
+            ps.setString(2, event.getMessageKey());
+            ps.setString(3, event.getEventType());
+            ps.setString(4, event.getContentType());
+            ps.setBytes(5, event.getPayload());
+            ps.setTimestamp(6, Timestamp.from(event.getCreatedAt()));
+        });
+    }
+}
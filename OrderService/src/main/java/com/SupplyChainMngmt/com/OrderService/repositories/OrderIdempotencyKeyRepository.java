@@ -0,0 +1,34 @@
+package com.SupplyChainMngmt.com.OrderService.repositories;
+
+import com.SupplyChainMngmt.com.OrderService.entities.OrderIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface OrderIdempotencyKeyRepository extends JpaRepository<OrderIdempotencyKey, String> {
+
+    // A plain insert rather than save(): the key is an assigned id, so save() would merge and
+    // overwrite a row another replica already committed instead of failing on the primary key.
+    @Modifying
+    @Query("insert into OrderIdempotencyKey (idempotencyKey, requestHash, createdAt) " +
+            "values (:idempotencyKey, :requestHash, :createdAt)")
+    int insertKey(@Param("idempotencyKey") String idempotencyKey,
+                  @Param("requestHash") String requestHash,
+                  @Param("createdAt") Instant createdAt);
+
+    @Modifying
+    @Query("update OrderIdempotencyKey k set k.orderId = :orderId, k.response = :response " +
+            "where k.idempotencyKey = :idempotencyKey")
+    int complete(@Param("idempotencyKey") String idempotencyKey,
+                 @Param("orderId") Long orderId,
+                 @Param("response") String response);
+
+    @Transactional
+    @Modifying
+    @Query("delete from OrderIdempotencyKey k where k.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,23 @@
+package com.SupplyChainMngmt.com.OrderService.repositories;
+
+import com.SupplyChainMngmt.com.OrderService.entities.OrderOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEvent, Long> {
+
+    // Always locks from the head of the outbox with NOWAIT, so while one relay holds a batch any
+    // other instance fails immediately instead of skipping ahead and publishing later events for
+    // the same order first. At most one relay is active at a time; the others take over on failure.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "0"))
+    @Query("select e from OrderOutboxEvent e order by e.id")
+    List<OrderOutboxEvent> lockNextBatch(Limit limit);
+}
@@ -1,7 +1,70 @@
 package com.SupplyChainMngmt.com.OrderService.repositories;
 
+import com.SupplyChainMngmt.com.OrderService.dto.projection.OrderKeyView;
+import com.SupplyChainMngmt.com.OrderService.dto.projection.OrderLineView;
 import com.SupplyChainMngmt.com.OrderService.entities.Order;
+import com.SupplyChainMngmt.com.OrderService.entities.type.OrderStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    @EntityGraph(attributePaths = "items")
+    @Query("select o from Order o where o.id = :id")
+    Optional<Order> findWithItemsById(Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.status = :status, o.updatedAt = :now where o.id = :id and o.status in :from")
+    int transitionStatus(@Param("id") Long id,
+                         @Param("status") OrderStatus status,
+                         @Param("from") Collection<OrderStatus> from,
+                         @Param("now") Instant now);
+
+    @Query("""
+            select new com.SupplyChainMngmt.com.OrderService.dto.projection.OrderLineView(
+                o.id, o.customerId, o.status, o.totalAmount, o.createdAt, o.updatedAt,
+                i.id, i.sku, i.quantity, i.unitPrice, i.discountAmount, i.taxAmount)
+            from Order o left join o.items i
+            order by o.id, i.id
+            """)
+    List<OrderLineView> findAllLines();
+
+    @Query("""
+            select new com.SupplyChainMngmt.com.OrderService.dto.projection.OrderLineView(
+                o.id, o.customerId, o.status, o.totalAmount, o.createdAt, o.updatedAt,
+                i.id, i.sku, i.quantity, i.unitPrice, i.discountAmount, i.taxAmount)
+            from Order o left join o.items i
+            where o.id in :ids
+            order by o.createdAt desc, o.id desc, i.id
+            """)
+    List<OrderLineView> findLinesByOrderIds(@Param("ids") Collection<Long> ids);
+
+    // Newest first; the cursor is the (createdAt, id) of the last row of the previous page.
+    @Query("""
+            select new com.SupplyChainMngmt.com.OrderService.dto.projection.OrderKeyView(o.id, o.createdAt)
+            from Order o
+            where (:customerId is null or o.customerId = :customerId)
+              and (:status is null or o.status = :status)
+              and (:from is null or o.createdAt >= :from)
+              and (:to is null or o.createdAt < :to)
+              and (:cursorAt is null or o.createdAt < :cursorAt
+                   or (o.createdAt = :cursorAt and o.id < :cursorId))
+            order by o.createdAt desc, o.id desc
+            """)
+    List<OrderKeyView> searchKeys(@Param("customerId") String customerId,
+                                  @Param("status") OrderStatus status,
+                                  @Param("from") Instant from,
+                                  @Param("to") Instant to,
+                                  @Param("cursorAt") Instant cursorAt,
+                                  @Param("cursorId") Long cursorId,
+                                  Limit limit);
 }
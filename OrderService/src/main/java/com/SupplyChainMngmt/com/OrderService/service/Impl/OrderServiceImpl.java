@@ -1,91 +1,235 @@
 package com.SupplyChainMngmt.com.OrderService.service.Impl;
 
+import com.SupplyChainMngmt.com.OrderService.Exception.InvalidStatusTransitionException;
 import com.SupplyChainMngmt.com.OrderService.Exception.ResourceNotFoundException;
+import com.SupplyChainMngmt.com.OrderService.dto.projection.OrderKeyView;
+import com.SupplyChainMngmt.com.OrderService.dto.projection.OrderLineView;
+import com.SupplyChainMngmt.com.OrderService.dto.requestDto.BatchStatusTransitionRequest;
 import com.SupplyChainMngmt.com.OrderService.dto.requestDto.CreateOrderRequest;
 import com.SupplyChainMngmt.com.OrderService.dto.requestDto.OrderItemRequest;
 import com.SupplyChainMngmt.com.OrderService.dto.requestDto.UpdateOrderStatusRequest;
+import com.SupplyChainMngmt.com.OrderService.dto.resposneDto.BatchStatusTransitionResponse;
+import com.SupplyChainMngmt.com.OrderService.dto.resposneDto.BulkOrderChunkResult;
+import com.SupplyChainMngmt.com.OrderService.dto.resposneDto.BulkOrderLineFailure;
+import com.SupplyChainMngmt.com.OrderService.dto.resposneDto.BulkOrderResponse;
 import com.SupplyChainMngmt.com.OrderService.dto.resposneDto.OrderItemResponse;
+import com.SupplyChainMngmt.com.OrderService.dto.resposneDto.OrderPageResponse;
 import com.SupplyChainMngmt.com.OrderService.dto.resposneDto.OrderResponse;
 import com.SupplyChainMngmt.com.OrderService.entities.Order;
 import com.SupplyChainMngmt.com.OrderService.entities.OrderItem;
 import com.SupplyChainMngmt.com.OrderService.entities.type.OrderStatus;
 import com.SupplyChainMngmt.com.OrderService.event.OrderEventPublisher;
+import com.SupplyChainMngmt.com.OrderService.repositories.OrderBatchRepository;
 import com.SupplyChainMngmt.com.OrderService.repositories.OrderRepository;
 import com.SupplyChainMngmt.com.OrderService.service.OrderService;
+import com.SupplyChainMngmt.com.OrderService.service.cache.OrderCache;
+import com.SupplyChainMngmt.com.OrderService.service.pricing.Money;
+import com.SupplyChainMngmt.com.OrderService.service.pricing.OrderPricer;
+import com.SupplyChainMngmt.com.OrderService.service.pricing.PricedLines;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
+@Slf4j
 public class OrderServiceImpl implements OrderService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final OrderRepository orderRepository;
+    private final OrderBatchRepository orderBatchRepository;
     private final OrderEventPublisher orderEventPublisher;
+    private final OrderPricer orderPricer;
+    private final OrderCache orderCache;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.orders.bulk.chunk-size:1000}")
+    private int bulkChunkSize;
 
     @Override
     public OrderResponse createOrder(CreateOrderRequest request) {
-        double amount = request.getItems().stream()
-                .mapToDouble(i -> i.getUnitPrice()*i.getQuantity())
-                .sum();
+        validate(request);
+        Order order = buildOrder(request);
 
-        Order order = Order.builder()
-                .customerId(request.getCustomerId())
-                .status(OrderStatus.CREATED)
-                .totalAmount(amount)
-                .build();
+        Order new_order = orderRepository.save(order);
+        orderEventPublisher.publishOrderCreated(new_order);
+
+        OrderResponse response = mapToResponse(new_order);
+        orderCache.putAfterCommit(response);
+        return response;
+    }
+
+    /**
+     * Ingests NDJSON order lines in chunks of {@code app.orders.bulk.chunk-size} lines. Each chunk is
+     * written in its own transaction, so a failing chunk does not undo the ones before it; lines that
+     * do not parse or validate are reported individually and skipped.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkOrderResponse createOrdersBulk(Stream<String> lines) {
+        long started = System.nanoTime();
+        List<BulkOrderChunkResult> chunks = new ArrayList<>();
+        List<Order> orders = new ArrayList<>();
+        List<Integer> orderLines = new ArrayList<>();
+        List<BulkOrderLineFailure> failures = new ArrayList<>();
+        int lineNumber = 0;
+        int firstLine = 1;
 
-        if(request.getItems() != null){
-            for(OrderItemRequest itemReq: request.getItems()){
-                OrderItem item = OrderItem.builder()
-                        .sku(itemReq.getSku())
-                        .quantity(itemReq.getQuantity())
-                        .unitPrice(itemReq.getUnitPrice())
-                        .build();
-                order.addItem(item);
+        Iterator<String> iterator = lines.iterator();
+        while (iterator.hasNext()) {
+            String line = iterator.next();
+            lineNumber++;
+            if (!line.isBlank()) {
+                try {
+                    CreateOrderRequest request = objectMapper.readValue(line, CreateOrderRequest.class);
+                    validate(request);
+                    orders.add(buildOrder(request));
+                    orderLines.add(lineNumber);
+                } catch (JsonProcessingException e) {
+                    failures.add(new BulkOrderLineFailure(lineNumber, "Malformed JSON: " + e.getOriginalMessage()));
+                } catch (IllegalArgumentException e) {
+                    failures.add(new BulkOrderLineFailure(lineNumber, e.getMessage()));
+                }
+            }
+            if (lineNumber - firstLine + 1 >= bulkChunkSize) {
+                chunks.add(writeChunk(chunks.size(), firstLine, lineNumber, orders, orderLines, failures));
+                orders = new ArrayList<>();
+                orderLines = new ArrayList<>();
+                failures = new ArrayList<>();
+                firstLine = lineNumber + 1;
             }
         }
+        if (lineNumber >= firstLine) {
+            chunks.add(writeChunk(chunks.size(), firstLine, lineNumber, orders, orderLines, failures));
+        }
 
-        Order new_order = orderRepository.save(order);
-        orderEventPublisher.publishOrderCreated(new_order);
-
-        return mapToResponse(new_order);
+        return BulkOrderResponse.builder()
+                .lines(lineNumber)
+                .created(chunks.stream().mapToInt(BulkOrderChunkResult::getCreated).sum())
+                .failed(chunks.stream().mapToInt(BulkOrderChunkResult::getFailed).sum())
+                .elapsedMs((System.nanoTime() - started) / 1_000_000)
+                .chunks(chunks)
+                .build();
     }
 
+    // SUPPORTS keeps cache hits from opening a transaction; a miss is a single fetch-joined select.
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public OrderResponse getOrderById(Long id) {
-        Order order = orderRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("No Order found with this id: "+id));
-        return mapToResponse(order);
+        return orderCache.get(id, () -> mapToResponse(orderRepository.findWithItemsById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("No Order found with this id: "+id))));
 
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<OrderResponse> getAllOrders() {
-        return orderRepository.findAll()
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return toResponses(orderRepository.findAllLines());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrderPageResponse searchOrders(String customerId, OrderStatus status, Instant from, Instant to,
+                                          String cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        OrderKeyView after = decodeCursor(cursor);
+        List<OrderKeyView> keys = orderRepository.searchKeys(blankToNull(customerId), status, from, to,
+                after == null ? null : after.createdAt(), after == null ? null : after.id(),
+                Limit.of(pageSize + 1));
+
+        boolean hasMore = keys.size() > pageSize;
+        List<OrderKeyView> page = hasMore ? keys.subList(0, pageSize) : keys;
+        List<OrderResponse> orders = page.isEmpty()
+                ? List.of()
+                : toResponses(orderRepository.findLinesByOrderIds(page.stream().map(OrderKeyView::id).toList()));
+        return OrderPageResponse.builder()
+                .orders(orders)
+                .nextCursor(page.isEmpty() ? null : encodeCursor(page.get(page.size() - 1)))
+                .hasMore(hasMore)
+                .build();
     }
 
     @Override
     public OrderResponse updateOrderStatus(Long id, UpdateOrderStatusRequest request) {
-        Order order = orderRepository.findById(id)
+        OrderStatus target = requireStatus(request.getStatus());
+        int changed = target.predecessors().isEmpty()
+                ? 0
+                : orderRepository.transitionStatus(id, target, target.predecessors(), Instant.now());
+
+        Order order = orderRepository.findWithItemsById(id)
                 .orElseThrow(()->new ResourceNotFoundException("No order found with id: "+id));
+        if (changed == 0) {
+            if (order.getStatus() == target) {
+                return mapToResponse(order);
+            }
+            throw new InvalidStatusTransitionException("Order " + id + " cannot move from " + order.getStatus() + " to " + target);
+        }
+        orderEventPublisher.publishOrderStatusUpdate(order);
+        OrderResponse response = mapToResponse(order);
+        orderCache.putAfterCommit(response);
+        return response;
+    }
 
-        order.setStatus(request.getStatus());
-        Order updated_order = orderRepository.save(order);
-        orderEventPublisher.publishOrderStatusUpdate(updated_order);
-        return mapToResponse(updated_order);
+    /**
+     * Applies one conditional update per order in JDBC batches. Orders that are missing, already in
+     * the target state or not in an allowed predecessor state are skipped; events are only emitted
+     * for rows that actually changed.
+     */
+    @Override
+    public BatchStatusTransitionResponse transitionOrders(BatchStatusTransitionRequest request) {
+        OrderStatus target = requireStatus(request.getStatus());
+        List<Long> ids = request.getOrderIds() == null
+                ? List.of()
+                : new ArrayList<>(new LinkedHashSet<>(request.getOrderIds()));
+        ids.removeIf(Objects::isNull);
+
+        List<Long> updated = new ArrayList<>();
+        List<Long> skipped = new ArrayList<>();
+        if (ids.isEmpty() || target.predecessors().isEmpty()) {
+            skipped.addAll(ids);
+        } else {
+            int[] counts = orderBatchRepository.transitionStatus(ids, target, target.predecessors(), Instant.now());
+            for (int i = 0; i < ids.size(); i++) {
+                (counts[i] > 0 ? updated : skipped).add(ids.get(i));
+            }
+            if (!updated.isEmpty()) {
+                orderEventPublisher.publishOrderStatusUpdates(updated, target);
+                orderCache.invalidateAfterCommit(updated);
+            }
+        }
+        return BatchStatusTransitionResponse.builder()
+                .status(target)
+                .requested(ids.size())
+                .updated(updated.size())
+                .updatedIds(updated)
+                .skippedIds(skipped)
+                .build();
     }
 
     @Override
@@ -94,6 +238,90 @@ public class OrderServiceImpl implements OrderService {
                 .orElseThrow(()-> new ResourceNotFoundException("Entity not found with id: "+id));
 
         orderRepository.delete(order);
+        orderCache.invalidateAfterCommit(List.of(id));
+    }
+
+    private BulkOrderChunkResult writeChunk(int chunk, int firstLine, int lastLine, List<Order> orders,
+                                            List<Integer> orderLines, List<BulkOrderLineFailure> failures) {
+        long started = System.nanoTime();
+        List<Long> orderIds = List.of();
+        if (!orders.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    orderBatchRepository.insertOrders(orders);
+                    orderBatchRepository.insertItems(orders);
+                    orderEventPublisher.publishOrdersCreated(orders);
+                });
+                orderIds = orders.stream().map(Order::getId).toList();
+            } catch (RuntimeException e) {
+                log.error("Bulk order chunk {} (lines {}-{}) failed", chunk, firstLine, lastLine, e);
+                orderLines.forEach(line -> failures.add(new BulkOrderLineFailure(line, "Chunk rejected: " + e.getMessage())));
+            }
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        failures.sort((a, b) -> Integer.compare(a.getLine(), b.getLine()));
+        return BulkOrderChunkResult.builder()
+                .chunk(chunk)
+                .firstLine(firstLine)
+                .lastLine(lastLine)
+                .created(orderIds.size())
+                .failed(failures.size())
+                .elapsedMs(elapsedNanos / 1_000_000)
+                .ordersPerSecond(orderIds.isEmpty() ? 0 : orderIds.size() * 1_000_000_000.0 / elapsedNanos)
+                .orderIds(orderIds)
+                .failures(failures)
+                .build();
+    }
+
+    private Order buildOrder(CreateOrderRequest request) {
+        List<OrderItemRequest> items = request.getItems();
+        PricedLines priced = orderPricer.price(items);
+        Instant now = Instant.now();
+        Order order = Order.builder()
+                .customerId(request.getCustomerId())
+                .status(OrderStatus.CREATED)
+                .totalAmount(Money.fromMinor(priced.totalMinor()))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        for (int i = 0; i < items.size(); i++) {
+            OrderItemRequest itemReq = items.get(i);
+            order.addItem(OrderItem.builder()
+                    .sku(itemReq.getSku())
+                    .quantity(itemReq.getQuantity())
+                    .unitPrice(Money.fromMinor(priced.unitPriceMinor(i)))
+                    .discountAmount(Money.fromMinor(priced.discountMinor(i)))
+                    .taxAmount(Money.fromMinor(priced.taxMinor(i)))
+                    .build());
+        }
+        return order;
+    }
+
+    private static OrderStatus requireStatus(OrderStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("status is required");
+        }
+        return status;
+    }
+
+    private static void validate(CreateOrderRequest request) {
+        if (request.getCustomerId() == null || request.getCustomerId().isBlank()) {
+            throw new IllegalArgumentException("customerId is required");
+        }
+        if (request.getItems() == null || request.getItems().isEmpty()) {
+            throw new IllegalArgumentException("At least one item is required");
+        }
+        for (OrderItemRequest item : request.getItems()) {
+            if (item.getSku() == null || item.getSku().isBlank()) {
+                throw new IllegalArgumentException("Item sku is required");
+            }
+            if (item.getQuantity() == null || item.getQuantity() <= 0) {
+                throw new IllegalArgumentException("Item quantity must be positive for sku: " + item.getSku());
+            }
+            if (item.getUnitPrice() == null || item.getUnitPrice().signum() < 0) {
+                throw new IllegalArgumentException("Item unitPrice must not be negative for sku: " + item.getSku());
+            }
+        }
     }
 
     private OrderResponse mapToResponse(Order order) {
@@ -110,8 +338,58 @@ public class OrderServiceImpl implements OrderService {
                                 .sku(item.getSku())
                                 .quantity(item.getQuantity())
                                 .unitPrice(item.getUnitPrice())
+                                .discountAmount(item.getDiscountAmount())
+                                .taxAmount(item.getTaxAmount())
                                 .build())
                         .collect(Collectors.toList()))
                 .build();
     }
+
+    // Folds joined order/item rows (ordered by order id) into responses without loading entities.
+    private List<OrderResponse> toResponses(List<OrderLineView> lines) {
+        Map<Long, OrderResponse> orders = new LinkedHashMap<>();
+        for (OrderLineView line : lines) {
+            OrderResponse response = orders.computeIfAbsent(line.orderId(), id -> OrderResponse.builder()
+                    .id(id)
+                    .customerId(line.customerId())
+                    .status(line.status())
+                    .totalAmount(line.totalAmount())
+                    .createdAt(line.createdAt())
+                    .updatedAt(line.updatedAt())
+                    .items(new ArrayList<>())
+                    .build());
+            if (line.itemId() != null) {
+                response.getItems().add(OrderItemResponse.builder()
+                        .id(line.itemId())
+                        .sku(line.sku())
+                        .quantity(line.quantity())
+                        .unitPrice(line.unitPrice())
+                        .discountAmount(line.discountAmount())
+                        .taxAmount(line.taxAmount())
+                        .build());
+            }
+        }
+        return new ArrayList<>(orders.values());
+    }
+
+    private static String encodeCursor(OrderKeyView key) {
+        return key.createdAt() + "_" + key.id();
+    }
+
+    private static OrderKeyView decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        int separator = cursor.lastIndexOf('_');
+        try {
+            return new OrderKeyView(Long.parseLong(cursor.substring(separator + 1)),
+                    Instant.parse(cursor.substring(0, separator)));
+        } catch (DateTimeParseException | IndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
 }
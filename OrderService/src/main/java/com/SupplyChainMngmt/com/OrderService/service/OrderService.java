@@ -1,21 +1,35 @@
 package com.SupplyChainMngmt.com.OrderService.service;
 
+import com.SupplyChainMngmt.com.OrderService.dto.requestDto.BatchStatusTransitionRequest;
 import com.SupplyChainMngmt.com.OrderService.dto.requestDto.CreateOrderRequest;
 import com.SupplyChainMngmt.com.OrderService.dto.requestDto.UpdateOrderStatusRequest;
+import com.SupplyChainMngmt.com.OrderService.dto.resposneDto.BatchStatusTransitionResponse;
+import com.SupplyChainMngmt.com.OrderService.dto.resposneDto.BulkOrderResponse;
+import com.SupplyChainMngmt.com.OrderService.dto.resposneDto.OrderPageResponse;
 import com.SupplyChainMngmt.com.OrderService.dto.resposneDto.OrderResponse;
+import com.SupplyChainMngmt.com.OrderService.entities.type.OrderStatus;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface OrderService {
 
     OrderResponse createOrder(CreateOrderRequest request);
 
+    BulkOrderResponse createOrdersBulk(Stream<String> lines);
+
     OrderResponse getOrderById(Long id);
 
     List<OrderResponse> getAllOrders();
 
+    OrderPageResponse searchOrders(String customerId, OrderStatus status, Instant from, Instant to,
+                                   String cursor, Integer limit);
+
     OrderResponse updateOrderStatus(Long id, UpdateOrderStatusRequest request);
 
+    BatchStatusTransitionResponse transitionOrders(BatchStatusTransitionRequest request);
+
     void deleteOrder(Long id);
 
 }
@@ -0,0 +1,121 @@
+package com.SupplyChainMngmt.com.OrderService.service.cache;
+
+import com.SupplyChainMngmt.com.OrderService.dto.resposneDto.OrderResponse;
+import com.SupplyChainMngmt.com.OrderService.entities.type.OrderStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Per-instance cache of order read models keyed by order id.
+ *
+ * Local writers refresh entries once their transaction commits; changes made on other replicas
+ * arrive through order.events. A read served from an entry that an event later proves outdated is
+ * counted as a stale read. With {@code app.orders.cache.enabled=false} every call goes to the loader.
+ */
+@Component
+public class OrderCache {
+
+    private static final class Entry {
+        private final OrderResponse response;
+        private volatile long lastReadMillis;
+
+        private Entry(OrderResponse response) {
+            this.response = response;
+        }
+    }
+
+    private final boolean enabled;
+    private final Cache<Long, Entry> cache;
+    private final Counter staleReads;
+    private final Counter invalidations;
+
+    public OrderCache(MeterRegistry meterRegistry,
+                      @Value("${app.orders.cache.enabled:true}") boolean enabled,
+                      @Value("${app.orders.cache.max-size:50000}") long maxSize,
+                      @Value("${app.orders.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "order.responses");
+        this.staleReads = Counter.builder("order.cache.stale.reads")
+                .description("Cached order reads served after the order had already changed elsewhere")
+                .register(meterRegistry);
+        this.invalidations = Counter.builder("order.cache.invalidations")
+                .description("Cached orders dropped because of order.events")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public OrderResponse get(Long id, Supplier<OrderResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Entry entry = cache.get(id, k -> new Entry(loader.get()));
+        entry.lastReadMillis = System.currentTimeMillis();
+        return entry.response;
+    }
+
+    public void putAfterCommit(OrderResponse response) {
+        if (enabled) {
+            afterCommit(() -> cache.put(response.getId(), new Entry(response)));
+        }
+    }
+
+    public void invalidateAfterCommit(Collection<Long> ids) {
+        if (enabled && !ids.isEmpty()) {
+            List<Long> copy = List.copyOf(ids);
+            afterCommit(() -> cache.invalidateAll(copy));
+        }
+    }
+
+    /**
+     * Applies an order event from any replica. Entries that already reflect the event are kept, so
+     * this instance's own events do not evict what it just cached.
+     */
+    public void onOrderEvent(Long orderId, OrderStatus status, Instant eventTime) {
+        if (!enabled) {
+            return;
+        }
+        Entry entry = cache.getIfPresent(orderId);
+        if (entry == null || (status != null && entry.response.getStatus() == status)) {
+            return;
+        }
+        if (eventTime != null && entry.lastReadMillis > eventTime.toEpochMilli()) {
+            staleReads.increment();
+        }
+        cache.asMap().remove(orderId, entry);
+        invalidations.increment();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,177 @@
+package com.SupplyChainMngmt.com.OrderService.service.idempotency;
+
+import com.SupplyChainMngmt.com.OrderService.dto.requestDto.CreateOrderRequest;
+import com.SupplyChainMngmt.com.OrderService.dto.resposneDto.OrderResponse;
+import com.SupplyChainMngmt.com.OrderService.repositories.OrderIdempotencyKeyRepository;
+import com.SupplyChainMngmt.com.OrderService.service.OrderService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Order creation keyed by a client supplied Idempotency-Key.
+ *
+ * Recent keys live in a bounded in-memory map holding the (possibly still running) result, so a retry
+ * or a concurrent duplicate on this instance waits for the same future instead of creating a second
+ * order. The key row is inserted before the order in the same transaction, which makes duplicates
+ * arriving on other replicas block on the primary key and then replay the stored response.
+ */
+@Service
+@Slf4j
+public class IdempotentOrderService {
+
+    private record Entry(String requestHash, CompletableFuture<OrderResponse> result) {
+    }
+
+    private static final int MAX_KEY_LENGTH = 128;
+
+    private final OrderService orderService;
+    private final OrderIdempotencyKeyRepository keyRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, Entry> recentKeys;
+    private final Counter memoryReplays;
+    private final Counter storeReplays;
+
+    @Value("${app.orders.idempotency.retention-hours:24}")
+    private long retentionHours;
+
+    public IdempotentOrderService(OrderService orderService, OrderIdempotencyKeyRepository keyRepository,
+                                  ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                  @Value("${app.orders.idempotency.cache-size:100000}") long cacheSize,
+                                  @Value("${app.orders.idempotency.cache-ttl-minutes:60}") long cacheTtlMinutes) {
+        this.orderService = orderService;
+        this.keyRepository = keyRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.recentKeys = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofMinutes(cacheTtlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, recentKeys, "order.idempotency");
+        this.memoryReplays = Counter.builder("order.idempotency.replayed").tag("source", "memory").register(meterRegistry);
+        this.storeReplays = Counter.builder("order.idempotency.replayed").tag("source", "store").register(meterRegistry);
+    }
+
+    public OrderResponse createOrder(String idempotencyKey, CreateOrderRequest request) {
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+        String requestHash = hash(request);
+        Entry fresh = new Entry(requestHash, new CompletableFuture<>());
+        Entry existing = recentKeys.asMap().putIfAbsent(idempotencyKey, fresh);
+        if (existing != null) {
+            checkSameRequest(idempotencyKey, existing.requestHash(), requestHash);
+            memoryReplays.increment();
+            return await(existing.result());
+        }
+
+        try {
+            OrderResponse response = findStored(idempotencyKey, requestHash)
+                    .orElseGet(() -> createOnce(idempotencyKey, requestHash, request));
+            fresh.result().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            recentKeys.asMap().remove(idempotencyKey, fresh);
+            fresh.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.orders.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int removed = keyRepository.deleteCreatedBefore(Instant.now().minus(Duration.ofHours(retentionHours)));
+        if (removed > 0) {
+            log.info("Purged {} expired idempotency keys", removed);
+        }
+    }
+
+    private OrderResponse createOnce(String idempotencyKey, String requestHash, CreateOrderRequest request) {
+        try {
+            return transactionTemplate.execute(status -> {
+                keyRepository.insertKey(idempotencyKey, requestHash, Instant.now());
+
+                OrderResponse response = orderService.createOrder(request);
+                keyRepository.complete(idempotencyKey, response.getId(), write(response));
+                return response;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another replica committed the same key first.
+            return findStored(idempotencyKey, requestHash).orElseThrow(() -> e);
+        }
+    }
+
+    private Optional<OrderResponse> findStored(String idempotencyKey, String requestHash) {
+        return keyRepository.findById(idempotencyKey)
+                .filter(key -> key.getResponse() != null)
+                .map(key -> {
+                    checkSameRequest(idempotencyKey, key.getRequestHash(), requestHash);
+                    storeReplays.increment();
+                    return read(key.getResponse());
+                });
+    }
+
+    private static void checkSameRequest(String idempotencyKey, String storedHash, String requestHash) {
+        if (!storedHash.equals(requestHash)) {
+            throw new IllegalArgumentException("Idempotency-Key " + idempotencyKey + " was already used for a different request");
+        }
+    }
+
+    private static OrderResponse await(CompletableFuture<OrderResponse> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String hash(CreateOrderRequest request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not fingerprint order request", e);
+        }
+    }
+
+    private String write(OrderResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize order response " + response.getId(), e);
+        }
+    }
+
+    private OrderResponse read(String response) {
+        try {
+            return objectMapper.readValue(response, OrderResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read stored order response", e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.SupplyChainMngmt.com.OrderService.service.pricing;
+
+/**
+ * Extension point for per-line discounts and taxes, in minor units. Declare a bean implementing this
+ * interface to enable them; without one, lines are priced at unit price times quantity.
+ */
+public interface LineAdjustments {
+
+    LineAdjustments NONE = new LineAdjustments() {
+    };
+
+    /**
+     * Discount to subtract from the line, given its gross amount.
+     */
+    default long discountMinor(String sku, int quantity, long grossMinor) {
+        return 0L;
+    }
+
+    /**
+     * Tax to add to the line, given its amount after discount.
+     */
+    default long taxMinor(String sku, int quantity, long netMinor) {
+        return 0L;
+    }
+}
@@ -0,0 +1,51 @@
+package com.SupplyChainMngmt.com.OrderService.service.pricing;
+
+import com.SupplyChainMngmt.com.OrderService.dto.requestDto.OrderItemRequest;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Prices order lines in long minor units. Each unit price is converted once; the totaling loop works
+ * on primitive arrays with overflow checks and allocates nothing per line.
+ */
+@Component
+public class OrderPricer {
+
+    private final LineAdjustments adjustments;
+
+    public OrderPricer(ObjectProvider<LineAdjustments> adjustments) {
+        this.adjustments = adjustments.getIfAvailable(() -> LineAdjustments.NONE);
+    }
+
+    public PricedLines price(List<OrderItemRequest> items) {
+        try {
+            return priceLines(items);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Order amount is out of range");
+        }
+    }
+
+    private PricedLines priceLines(List<OrderItemRequest> items) {
+        int size = items.size();
+        PricedLines priced = new PricedLines(size);
+        long total = 0L;
+        for (int i = 0; i < size; i++) {
+            OrderItemRequest item = items.get(i);
+            int quantity = item.getQuantity();
+            long unitMinor = Money.toMinor(item.getUnitPrice());
+            long gross = Math.multiplyExact(unitMinor, (long) quantity);
+            long discount = adjustments.discountMinor(item.getSku(), quantity, gross);
+            long net = Math.subtractExact(gross, discount);
+            long tax = adjustments.taxMinor(item.getSku(), quantity, net);
+
+            priced.unitPriceMinor[i] = unitMinor;
+            priced.discountMinor[i] = discount;
+            priced.taxMinor[i] = tax;
+            total = Math.addExact(total, Math.addExact(net, tax));
+        }
+        priced.totalMinor = total;
+        return priced;
+    }
+}
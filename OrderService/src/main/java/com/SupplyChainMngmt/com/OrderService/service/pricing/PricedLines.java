@@ -0,0 +1,38 @@
+package com.SupplyChainMngmt.com.OrderService.service.pricing;
+
+/**
+ * Per-line amounts of one order in minor units, indexed like the request items.
+ */
+public final class PricedLines {
+
+    final long[] unitPriceMinor;
+    final long[] discountMinor;
+    final long[] taxMinor;
+    long totalMinor;
+
+    PricedLines(int size) {
+        this.unitPriceMinor = new long[size];
+        this.discountMinor = new long[size];
+        this.taxMinor = new long[size];
+    }
+
+    public int size() {
+        return unitPriceMinor.length;
+    }
+
+    public long unitPriceMinor(int line) {
+        return unitPriceMinor[line];
+    }
+
+    public long discountMinor(int line) {
+        return discountMinor[line];
+    }
+
+    public long taxMinor(int line) {
+        return taxMinor[line];
+    }
+
+    public long totalMinor() {
+        return totalMinor;
+    }
+}
@@ -0,0 +1,47 @@
+package com.SupplyChainMngmt.com.OrderService.entities.type;
+
+import org.junit.jupiter.api.Test;
+
+import static com.SupplyChainMngmt.com.OrderService.entities.type.OrderStatus.CANCELLED;
+import static com.SupplyChainMngmt.com.OrderService.entities.type.OrderStatus.CONFIRMED;
+import static com.SupplyChainMngmt.com.OrderService.entities.type.OrderStatus.CREATED;
+import static com.SupplyChainMngmt.com.OrderService.entities.type.OrderStatus.DELIVERED;
+import static com.SupplyChainMngmt.com.OrderService.entities.type.OrderStatus.SHIPPED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderStatusTest {
+
+    @Test
+    void predecessorsFollowTheOrderLifecycle() {
+        assertThat(CREATED.predecessors()).isEmpty();
+        assertThat(CONFIRMED.predecessors()).containsExactlyInAnyOrder(CREATED);
+        assertThat(SHIPPED.predecessors()).containsExactlyInAnyOrder(CREATED, CONFIRMED);
+        assertThat(DELIVERED.predecessors()).containsExactlyInAnyOrder(CREATED, CONFIRMED, SHIPPED);
+        assertThat(CANCELLED.predecessors()).containsExactlyInAnyOrder(CREATED, CONFIRMED);
+    }
+
+    @Test
+    void shipmentUpdatesMaySkipIntermediateStates() {
+        assertThat(CREATED.canTransitionTo(SHIPPED)).isTrue();
+        assertThat(CREATED.canTransitionTo(DELIVERED)).isTrue();
+        assertThat(CONFIRMED.canTransitionTo(DELIVERED)).isTrue();
+    }
+
+    @Test
+    void neverMovesBackwardsOrOutOfATerminalState() {
+        assertThat(SHIPPED.canTransitionTo(CONFIRMED)).isFalse();
+        assertThat(SHIPPED.canTransitionTo(CANCELLED)).isFalse();
+        for (OrderStatus target : OrderStatus.values()) {
+            assertThat(DELIVERED.canTransitionTo(target)).as("DELIVERED -> %s", target).isFalse();
+            assertThat(CANCELLED.canTransitionTo(target)).as("CANCELLED -> %s", target).isFalse();
+            assertThat(target.canTransitionTo(target)).as("%s -> %s", target, target).isFalse();
+        }
+    }
+
+    @Test
+    void predecessorsCannotBeModified() {
+        assertThatThrownBy(() -> SHIPPED.predecessors().add(DELIVERED))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
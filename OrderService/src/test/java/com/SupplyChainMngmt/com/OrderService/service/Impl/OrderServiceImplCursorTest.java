@@ -0,0 +1,94 @@
+package com.SupplyChainMngmt.com.OrderService.service.Impl;
+
+import com.SupplyChainMngmt.com.OrderService.dto.projection.OrderKeyView;
+import com.SupplyChainMngmt.com.OrderService.dto.resposneDto.OrderPageResponse;
+import com.SupplyChainMngmt.com.OrderService.event.OrderEventPublisher;
+import com.SupplyChainMngmt.com.OrderService.repositories.OrderBatchRepository;
+import com.SupplyChainMngmt.com.OrderService.repositories.OrderRepository;
+import com.SupplyChainMngmt.com.OrderService.service.cache.OrderCache;
+import com.SupplyChainMngmt.com.OrderService.service.pricing.OrderPricer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderServiceImplCursorTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private OrderBatchRepository orderBatchRepository;
+    @Mock
+    private OrderEventPublisher orderEventPublisher;
+    @Mock
+    private OrderPricer orderPricer;
+    @Mock
+    private OrderCache orderCache;
+    @Mock
+    private ObjectMapper objectMapper;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private OrderServiceImpl orderService;
+
+    @Test
+    void firstPageStartsWithoutAKeyAndFetchesOneExtraRow() {
+        when(orderRepository.searchKeys(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), any(Limit.class)))
+                .thenReturn(List.of());
+
+        OrderPageResponse page = orderService.searchOrders(" ", null, null, null, null, 2);
+
+        verify(orderRepository).searchKeys(null, null, null, null, null, null, Limit.of(3));
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.isHasMore()).isFalse();
+    }
+
+    @Test
+    void nextCursorResumesAfterTheLastKeyOfThePage() {
+        List<OrderKeyView> keys = List.of(
+                new OrderKeyView(7L, T0),
+                new OrderKeyView(5L, T0.minusSeconds(1)),
+                new OrderKeyView(4L, T0.minusSeconds(2)));
+        when(orderRepository.searchKeys(isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), any(Limit.class)))
+                .thenReturn(keys);
+        when(orderRepository.findLinesByOrderIds(anyList())).thenReturn(List.of());
+
+        OrderPageResponse first = orderService.searchOrders(null, null, null, null, null, 2);
+
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(first.getNextCursor()).isEqualTo("2025-12-31T23:59:59Z_5");
+
+        orderService.searchOrders(null, null, null, null, first.getNextCursor(), 2);
+
+        verify(orderRepository).searchKeys(null, null, null, null, T0.minusSeconds(1), 5L, Limit.of(3));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"garbage", "2026-01-01T00:00:00Z", "2026-01-01T00:00:00Z_x", "_5", "yesterday_5"})
+    void malformedCursorsAreRejected(String cursor) {
+        assertThatThrownBy(() -> orderService.searchOrders(null, null, null, null, cursor, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor: " + cursor);
+    }
+}
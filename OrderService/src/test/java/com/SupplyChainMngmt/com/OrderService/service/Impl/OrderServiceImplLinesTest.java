@@ -0,0 +1,91 @@
+package com.SupplyChainMngmt.com.OrderService.service.Impl;
+
+import com.SupplyChainMngmt.com.OrderService.dto.projection.OrderLineView;
+import com.SupplyChainMngmt.com.OrderService.dto.resposneDto.OrderItemResponse;
+import com.SupplyChainMngmt.com.OrderService.dto.resposneDto.OrderResponse;
+import com.SupplyChainMngmt.com.OrderService.entities.type.OrderStatus;
+import com.SupplyChainMngmt.com.OrderService.event.OrderEventPublisher;
+import com.SupplyChainMngmt.com.OrderService.repositories.OrderBatchRepository;
+import com.SupplyChainMngmt.com.OrderService.repositories.OrderRepository;
+import com.SupplyChainMngmt.com.OrderService.service.cache.OrderCache;
+import com.SupplyChainMngmt.com.OrderService.service.pricing.OrderPricer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Orders are read as one flat row per item from a single join query. These tests only check that
+ * the service makes one repository call and regroups the rows into orders. They do not verify how
+ * many SQL statements that call issues: that needs Hibernate statistics under @DataJpaTest and an
+ * embedded database, which this build does not have.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderServiceImplLinesTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private OrderBatchRepository orderBatchRepository;
+    @Mock
+    private OrderEventPublisher orderEventPublisher;
+    @Mock
+    private OrderPricer orderPricer;
+    @Mock
+    private OrderCache orderCache;
+    @Mock
+    private ObjectMapper objectMapper;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private OrderServiceImpl orderService;
+
+    @Test
+    void groupsJoinedRowsIntoOrdersWithOneQuery() {
+        when(orderRepository.findAllLines()).thenReturn(List.of(
+                line(1L, 10L, "A", 2),
+                line(1L, 11L, "B", 1),
+                line(2L, 20L, "C", 5)));
+
+        List<OrderResponse> orders = orderService.getAllOrders();
+
+        verify(orderRepository).findAllLines();
+        verifyNoMoreInteractions(orderRepository);
+        assertThat(orders).extracting(OrderResponse::getId).containsExactly(1L, 2L);
+        assertThat(orders.get(0).getItems()).extracting(OrderItemResponse::getSku).containsExactly("A", "B");
+        assertThat(orders.get(1).getItems()).extracting(OrderItemResponse::getQuantity).containsExactly(5);
+    }
+
+    @Test
+    void keepsOrdersWithoutItems() {
+        when(orderRepository.findAllLines()).thenReturn(List.of(line(3L, null, null, null)));
+
+        List<OrderResponse> orders = orderService.getAllOrders();
+
+        assertThat(orders).singleElement().satisfies(order -> {
+            assertThat(order.getId()).isEqualTo(3L);
+            assertThat(order.getItems()).isEmpty();
+        });
+    }
+
+    private static OrderLineView line(Long orderId, Long itemId, String sku, Integer quantity) {
+        return new OrderLineView(orderId, "C-1", OrderStatus.CREATED, new BigDecimal("10.00"), T0, T0,
+                itemId, sku, quantity, itemId == null ? null : new BigDecimal("5.00"),
+                BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+}
@@ -0,0 +1,37 @@
+package com.SupplyChainMngmt.com.OrderService.service.pricing;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    void convertsDecimalAmountsToMinorUnits() {
+        assertThat(Money.toMinor(new BigDecimal("19.99"))).isEqualTo(1999L);
+        assertThat(Money.toMinor(new BigDecimal("5"))).isEqualTo(500L);
+        assertThat(Money.toMinor(new BigDecimal("0.1"))).isEqualTo(10L);
+    }
+
+    @Test
+    void roundsExtraDigitsHalfEven() {
+        assertThat(Money.toMinor(new BigDecimal("0.125"))).isEqualTo(12L);
+        assertThat(Money.toMinor(new BigDecimal("0.135"))).isEqualTo(14L);
+        assertThat(Money.toMinor(new BigDecimal("0.1251"))).isEqualTo(13L);
+    }
+
+    @Test
+    void rejectsAmountsBeyondALong() {
+        assertThatThrownBy(() -> Money.toMinor(new BigDecimal("1e30")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void convertsMinorUnitsBackAtScaleTwo() {
+        assertThat(Money.fromMinor(1999L)).isEqualTo(new BigDecimal("19.99"));
+        assertThat(Money.fromMinor(500L)).isEqualTo(new BigDecimal("5.00"));
+    }
+}
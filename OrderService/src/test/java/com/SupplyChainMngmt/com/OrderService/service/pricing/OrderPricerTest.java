@@ -0,0 +1,81 @@
+package com.SupplyChainMngmt.com.OrderService.service.pricing;
+
+import com.SupplyChainMngmt.com.OrderService.dto.requestDto.OrderItemRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderPricerTest {
+
+    @Test
+    void pricesLinesAtUnitPriceTimesQuantityWithoutAdjustments() {
+        OrderPricer pricer = pricer(new StaticListableBeanFactory());
+
+        PricedLines priced = pricer.price(List.of(item("A", 3, "19.99"), item("B", 2, "0.10")));
+
+        assertThat(priced.size()).isEqualTo(2);
+        assertThat(priced.unitPriceMinor(0)).isEqualTo(1999L);
+        assertThat(priced.unitPriceMinor(1)).isEqualTo(10L);
+        assertThat(priced.discountMinor(0)).isZero();
+        assertThat(priced.taxMinor(1)).isZero();
+        assertThat(priced.totalMinor()).isEqualTo(3 * 1999L + 2 * 10L);
+    }
+
+    @Test
+    void appliesDiscountBeforeTaxPerLine() {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("adjustments", new LineAdjustments() {
+            @Override
+            public long discountMinor(String sku, int quantity, long grossMinor) {
+                return grossMinor / 10;
+            }
+
+            @Override
+            public long taxMinor(String sku, int quantity, long netMinor) {
+                return netMinor / 5;
+            }
+        });
+        OrderPricer pricer = pricer(beans);
+
+        PricedLines priced = pricer.price(List.of(item("A", 2, "50.00")));
+
+        // gross 10000, discount 1000, net 9000, tax 1800
+        assertThat(priced.discountMinor(0)).isEqualTo(1000L);
+        assertThat(priced.taxMinor(0)).isEqualTo(1800L);
+        assertThat(priced.totalMinor()).isEqualTo(10800L);
+    }
+
+    @Test
+    void rejectsTotalsThatOverflow() {
+        OrderPricer pricer = pricer(new StaticListableBeanFactory());
+
+        assertThatThrownBy(() -> pricer.price(List.of(item("A", Integer.MAX_VALUE, "90000000000000000.00"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Order amount is out of range");
+    }
+
+    @Test
+    void pricesAnEmptyOrderAtZero() {
+        PricedLines priced = pricer(new StaticListableBeanFactory()).price(List.of());
+
+        assertThat(priced.size()).isZero();
+        assertThat(priced.totalMinor()).isZero();
+    }
+
+    private static OrderPricer pricer(StaticListableBeanFactory beans) {
+        return new OrderPricer(beans.getBeanProvider(LineAdjustments.class));
+    }
+
+    private static OrderItemRequest item(String sku, int quantity, String unitPrice) {
+        OrderItemRequest item = new OrderItemRequest();
+        item.setSku(sku);
+        item.setQuantity(quantity);
+        item.setUnitPrice(new BigDecimal(unitPrice));
+        return item;
+    }
+}
@@ -1,15 +1,22 @@
 package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.controller;
 
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.request.CreateShipmentRequest;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.request.LocationPingRequest;
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.request.UpdateLocationRequest;
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.request.UpdateShipmentStatusRequest;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.response.LocationIngestResponse;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.response.ShipmentPageResponse;
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.response.ShipmentResponse;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.response.ShipmentTrackResponse;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.entities.type.ShipmentStatus;
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.exception.payload.ApiResponse;
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.ShipmentService;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.location.LocationIngestor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
 
 @RestController
@@ -17,6 +24,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ShipmentController {
     private final ShipmentService shipmentService;
+    private final LocationIngestor locationIngestor;
 
     @PostMapping
     public ResponseEntity<ShipmentResponse> createShipment(@RequestBody CreateShipmentRequest request){
@@ -42,12 +50,47 @@ public class ShipmentController {
         return ResponseEntity.ok(shipmentResponseList);
     }
 
+    @GetMapping("/status/{status}")
+    public ResponseEntity<ShipmentPageResponse> getShipmentsByStatus(@PathVariable ShipmentStatus status,
+                                                                     @RequestParam(required = false) Instant deliveryFrom,
+                                                                     @RequestParam(required = false) Instant deliveryTo,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(required = false) Integer limit){
+        ShipmentPageResponse response = shipmentService.getPageByStatus(status, deliveryFrom, deliveryTo, cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/destination")
+    public ResponseEntity<ShipmentPageResponse> getShipmentsByDestination(@RequestParam String destination,
+                                                                          @RequestParam(required = false) String cursor,
+                                                                          @RequestParam(required = false) Integer limit){
+        ShipmentPageResponse response = shipmentService.getPageByDestination(destination, cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/created")
+    public ResponseEntity<ShipmentPageResponse> getShipmentsByCreatedAt(@RequestParam(required = false) Instant from,
+                                                                        @RequestParam(required = false) Instant to,
+                                                                        @RequestParam(required = false) String cursor,
+                                                                        @RequestParam(required = false) Integer limit){
+        ShipmentPageResponse response = shipmentService.getPageByCreatedAt(from, to, cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/track/{trackingNumber}")
     public ResponseEntity<ShipmentResponse> getShipmentByTrackingNumber(@PathVariable String trackingNumber){
         ShipmentResponse response = shipmentService.getByTrackingNumber(trackingNumber);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{id}/track")
+    public ResponseEntity<ShipmentTrackResponse> getShipmentTrack(@PathVariable Long id,
+                                                                  @RequestParam Instant from,
+                                                                  @RequestParam(required = false) Instant to){
+        ShipmentTrackResponse response = shipmentService.getTrack(id, from, to != null ? to : Instant.now());
+        return ResponseEntity.ok(response);
+    }
+
     @PatchMapping("/{id}/status")
     public ResponseEntity<ShipmentResponse> updateStatusHandler(@PathVariable Long id, @RequestBody UpdateShipmentStatusRequest request){
         ShipmentResponse response = shipmentService.updateStatus(id,request);
@@ -60,6 +103,12 @@ public class ShipmentController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/locations/batch")
+    public ResponseEntity<LocationIngestResponse> ingestLocations(@RequestBody List<LocationPingRequest> pings){
+        LocationIngestResponse response = locationIngestor.acceptAll(pings);
+        return ResponseEntity.accepted().body(response);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<ShipmentResponse> deleteShipmentById(@PathVariable Long id){
         shipmentService.delete(id);
@@ -0,0 +1,7 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.projection;
+
+/**
+ * Identifying columns of a shipment, enough to key and route an event without loading the entity.
+ */
+public record ShipmentRef(Long id, Long orderId, String trackingNumber) {
+}
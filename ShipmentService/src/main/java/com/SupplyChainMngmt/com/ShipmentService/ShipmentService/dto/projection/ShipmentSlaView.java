@@ -0,0 +1,20 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.projection;
+
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.entities.type.ShipmentStatus;
+
+import java.time.Instant;
+
+/**
+ * Columns the SLA evaluator needs to judge a shipment and announce its transition. lastSeenAt is
+ * the last location fix, or the last update of the row when no fix was ever received.
+ */
+public record ShipmentSlaView(Long id,
+                              Long orderId,
+                              String trackingNumber,
+                              String origin,
+                              String destination,
+                              ShipmentStatus status,
+                              Instant estimatedDelivery,
+                              Instant lastSeenAt,
+                              Instant createdAt) {
+}
@@ -0,0 +1,20 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.projection;
+
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.entities.type.ShipmentStatus;
+
+import java.time.Instant;
+
+/**
+ * Listing columns of a shipment, selected directly into the DTO so paging never hydrates entities.
+ */
+public record ShipmentSummary(Long id,
+                              Long orderId,
+                              String trackingNumber,
+                              String origin,
+                              String destination,
+                              String currentLocation,
+                              ShipmentStatus status,
+                              Instant estimatedDelivery,
+                              Instant createdAt,
+                              Instant updatedAt) {
+}
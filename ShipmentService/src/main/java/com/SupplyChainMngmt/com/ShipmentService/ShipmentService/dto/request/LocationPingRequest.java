@@ -0,0 +1,12 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.request;
+
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+public class LocationPingRequest {
+    private Long shipmentId;
+    private String currentLocation;
+    private Instant recordedAt;
+}
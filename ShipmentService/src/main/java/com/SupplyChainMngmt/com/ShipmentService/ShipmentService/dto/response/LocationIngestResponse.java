@@ -0,0 +1,11 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class LocationIngestResponse {
+    private int accepted;
+    private int rejected;
+}
@@ -0,0 +1,15 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.response;
+
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.projection.ShipmentSummary;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ShipmentPageResponse {
+    private List<ShipmentSummary> shipments;
+    private String nextCursor;
+    private boolean hasMore;
+}
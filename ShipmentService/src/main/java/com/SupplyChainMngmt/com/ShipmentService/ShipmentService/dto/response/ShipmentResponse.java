@@ -7,7 +7,7 @@ import lombok.Data;
 import java.time.Instant;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class ShipmentResponse {
     private Long id;
     private Long orderId;
@@ -15,6 +15,7 @@ public class ShipmentResponse {
     private String origin;
     private String destination;
     private String currentLocation;
+    private Instant locationUpdatedAt;
     private ShipmentStatus status;
     private Instant estimatedDelivery;
     private Instant createdAt;
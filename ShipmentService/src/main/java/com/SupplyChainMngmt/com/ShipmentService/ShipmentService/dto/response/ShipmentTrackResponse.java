@@ -0,0 +1,17 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+public class ShipmentTrackResponse {
+    private Long shipmentId;
+    private Instant from;
+    private Instant to;
+    private List<TrackPoint> points;
+    private boolean truncated;
+}
@@ -0,0 +1,13 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+public class TrackPoint {
+    private String location;
+    private Instant recordedAt;
+}
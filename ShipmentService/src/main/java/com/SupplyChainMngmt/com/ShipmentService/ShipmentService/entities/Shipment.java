@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.Instant;
 
@@ -14,7 +15,14 @@ import java.time.Instant;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "shipment")
+// Location ingestion and the SLA pass update columns over JDBC; write only what the entity changed.
+@DynamicUpdate
+@Table(name = "shipment", indexes = {
+        @Index(name = "idx_shipment_order", columnList = "order_id"),
+        @Index(name = "idx_shipment_status_eta", columnList = "status, estimated_delivery, id"),
+        @Index(name = "idx_shipment_destination", columnList = "destination, id"),
+        @Index(name = "idx_shipment_created", columnList = "created_at, id")
+})
 public class Shipment {
 
     @Id
@@ -36,6 +44,9 @@ public class Shipment {
     @Column(name = "current_location")
     private String currentLocation;
 
+    @Column(name = "location_updated_at")
+    private Instant locationUpdatedAt;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
     private ShipmentStatus status;
@@ -0,0 +1,49 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.events;
+
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.request.LocationPingRequest;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.location.LocationIngestor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Feeds telematics pings from Kafka into the location ingestor. Malformed records are counted as
+ * rejected and skipped; offsets are committed per poll since a lost ping is superseded by the next.
+ */
+@Component
+@Slf4j
+public class LocationPingListener {
+
+    private final LocationIngestor locationIngestor;
+    private final ObjectReader pingReader;
+
+    public LocationPingListener(LocationIngestor locationIngestor, ObjectMapper objectMapper) {
+        this.locationIngestor = locationIngestor;
+        this.pingReader = objectMapper.readerFor(LocationPingRequest.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @KafkaListener(topics = "${app.topics.location-pings:shipment.location.pings}",
+            groupId = "${spring.kafka.consumer.group-id:shipment-service-group}",
+            containerFactory = "batchListenerContainerFactory")
+    public void onPings(@Payload List<byte[]> messages){
+        for (byte[] message : messages) {
+            LocationPingRequest ping;
+            try {
+                ping = pingReader.readValue(message);
+            } catch (IOException e) {
+                log.debug("Skipping malformed location ping", e);
+                locationIngestor.reject();
+                continue;
+            }
+            locationIngestor.accept(ping);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.events;
+
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.entities.type.ShipmentStatus;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.cache.ShipmentTrackingCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the local tracking cache and Bloom filter in line with shipments created or changed on
+ * other replicas. Every instance uses its own consumer group so it sees all of shipment.events,
+ * starting from the latest offset. Creates published before the partitions are assigned are
+ * picked up by the cache's catch-up scan instead.
+ */
+@Component
+@Slf4j
+public class ShipmentCacheListener implements ConsumerSeekAware {
+
+    private final ShipmentTrackingCache shipmentTrackingCache;
+    private final ObjectMapper objectMapper;
+
+    public ShipmentCacheListener(ShipmentTrackingCache shipmentTrackingCache, ObjectMapper objectMapper) {
+        this.shipmentTrackingCache = shipmentTrackingCache;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        shipmentTrackingCache.onEventsAssigned();
+    }
+
+    @KafkaListener(topics = "${app.topics.shipment-events:shipment.events}",
+            groupId = "shipment-service-cache-#{T(java.util.UUID).randomUUID()}",
+            containerFactory = "batchListenerContainerFactory",
+            autoStartup = "${app.shipment.tracking-cache.enabled:true}",
+            properties = "auto.offset.reset=latest")
+    public void onShipmentEvents(@Payload List<byte[]> messages){
+        for (byte[] message : messages) {
+            JsonNode event;
+            ShipmentStatus status;
+            try {
+                event = objectMapper.readTree(message);
+                String value = event.path("status").asText(null);
+                status = value == null ? null : ShipmentStatus.valueOf(value);
+            } catch (IOException | IllegalArgumentException e) {
+                log.warn("Skipping unreadable shipment event", e);
+                continue;
+            }
+            shipmentTrackingCache.onShipmentEvent(
+                    event.path("eventType").asText(null),
+                    event.path("trackingNumber").asText(null),
+                    status,
+                    event.path("currentLocation").asText(null));
+        }
+    }
+}
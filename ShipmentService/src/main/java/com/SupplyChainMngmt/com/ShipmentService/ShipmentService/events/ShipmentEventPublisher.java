@@ -1,6 +1,11 @@
 package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.events;
 
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.projection.ShipmentRef;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.projection.ShipmentSlaView;
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.entities.Shipment;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.entities.type.ShipmentStatus;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.cache.ShipmentTrackingCache;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.location.LocationFix;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -13,6 +18,7 @@ import java.time.Instant;
 public class ShipmentEventPublisher {
 
     private final KafkaTemplate<String, ShipmentEvent> kafkaTemplate;
+    private final ShipmentTrackingCache shipmentTrackingCache;
 
     @Value("${app.topics.shipment-events:shipment.events}")
     private String shipmentEventsTopics;
@@ -36,10 +42,50 @@ public class ShipmentEventPublisher {
     public void publishShipmentLocationUpdated(Shipment shipment){
         ShipmentEvent event = baseEvent(shipment).toBuilder()
                 .eventType("SHIPMENT_LOCATION_UPDATED")
+                .currentLocation(shipment.getCurrentLocation())
                 .build();
         kafkaTemplate.send(shipmentEventsTopics, shipment.getTrackingNumber(), event);
     }
 
+    /**
+     * Compact location event for the ingestion path, built from the identifying columns and the
+     * coalesced fix instead of a full entity snapshot.
+     */
+    public void publishShipmentLocationUpdated(ShipmentRef shipment, LocationFix fix){
+        ShipmentEvent event = ShipmentEvent.builder()
+                .eventType("SHIPMENT_LOCATION_UPDATED")
+                .shipmentId(shipment.id())
+                .orderId(shipment.orderId())
+                .trackingNumber(shipment.trackingNumber())
+                .currentLocation(fix.location())
+                .updatedAt(fix.recordedAt())
+                .eventTime(Instant.now())
+                .build();
+        kafkaTemplate.send(shipmentEventsTopics, shipment.trackingNumber(), event);
+        shipmentTrackingCache.applyLocation(shipment.trackingNumber(), fix.location(), fix.recordedAt());
+    }
+
+    /**
+     * Status event for a transition applied in bulk, built from the columns read by the SLA scan.
+     */
+    public void publishShipmentStatusUpdated(ShipmentSlaView shipment, ShipmentStatus status, Instant updatedAt){
+        ShipmentEvent event = ShipmentEvent.builder()
+                .eventType("SHIPMENT_STATUS_UPDATED")
+                .shipmentId(shipment.id())
+                .orderId(shipment.orderId())
+                .trackingNumber(shipment.trackingNumber())
+                .origin(shipment.origin())
+                .destination(shipment.destination())
+                .status(status)
+                .estimatedDelivery(shipment.estimatedDelivery())
+                .createdAt(shipment.createdAt())
+                .updatedAt(updatedAt)
+                .eventTime(Instant.now())
+                .build();
+        kafkaTemplate.send(shipmentEventsTopics, shipment.trackingNumber(), event);
+        shipmentTrackingCache.applyStatus(shipment.trackingNumber(), status, updatedAt);
+    }
+
     private ShipmentEvent baseEvent(Shipment shipment){
         return ShipmentEvent.builder()
                 .shipmentId(shipment.getId())
@@ -17,4 +17,13 @@ public class GlobalExceptionHandler {
                 .build();
         return new ResponseEntity<>(response,HttpStatus.NOT_FOUND);
     }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiResponse> IllegalArgumentExceptionHandler(IllegalArgumentException exception){
+        ApiResponse response = ApiResponse.builder()
+                .message(exception.getMessage())
+                .status(HttpStatus.BAD_REQUEST)
+                .build();
+        return new ResponseEntity<>(response,HttpStatus.BAD_REQUEST);
+    }
 }
@@ -0,0 +1,92 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.repository;
+
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.response.TrackPoint;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.location.LocationFix;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Location history stored as one narrow table per UTC day. Rows are clustered by
+ * (shipment_id, recorded_at), so a shipment's trail within a day is one contiguous index range,
+ * and expiring a day is a single DROP TABLE regardless of how many rows it holds.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LocationHistoryRepository {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String TABLE_PREFIX = "shipment_location_history_";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public static String tableName(LocalDate day) {
+        return TABLE_PREFIX + DAY_FORMAT.format(day);
+    }
+
+    public void createTable(LocalDate day) {
+        jdbcTemplate.execute("create table if not exists " + tableName(day) + " (" +
+                "shipment_id bigint not null, " +
+                "recorded_at datetime(3) not null, " +
+                "location varchar(255) not null, " +
+                "primary key (shipment_id, recorded_at))");
+    }
+
+    public void dropTable(LocalDate day) {
+        jdbcTemplate.execute("drop table if exists " + tableName(day));
+    }
+
+    /**
+     * Days that currently have a history table.
+     */
+    public List<LocalDate> findDays() {
+        return jdbcTemplate.queryForList(
+                        "select table_name from information_schema.tables " +
+                        "where table_schema = database() and table_name like ?",
+                        String.class, TABLE_PREFIX.replace("_", "\\_") + "%")
+                .stream()
+                .map(LocationHistoryRepository::parseDay)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Appends fixes to the table of the given day. A fix already stored for the same shipment and
+     * instant is ignored, which makes replays of the same pings harmless.
+     */
+    public void append(LocalDate day, List<Map.Entry<Long, LocationFix>> fixes) {
+        jdbcTemplate.batchUpdate("insert ignore into " + tableName(day) +
+                        " (shipment_id, recorded_at, location) values (?, ?, ?)",
+                fixes, BATCH_SIZE, (ps, entry) -> {
+                    ps.setLong(1, entry.getKey());
+                    ps.setTimestamp(2, Timestamp.from(entry.getValue().recordedAt()));
+                    ps.setString(3, entry.getValue().location());
+                });
+    }
+
+    public List<TrackPoint> findTrack(LocalDate day, Long shipmentId, Instant from, Instant to, int limit) {
+        return jdbcTemplate.query("select recorded_at, location from " + tableName(day) +
+                        " where shipment_id = ? and recorded_at >= ? and recorded_at < ?" +
+                        " order by recorded_at limit ?",
+                (rs, rowNum) -> new TrackPoint(rs.getString("location"), rs.getTimestamp("recorded_at").toInstant()),
+                shipmentId, Timestamp.from(from), Timestamp.from(to), limit);
+    }
+
+    private static Optional<LocalDate> parseDay(String table) {
+        try {
+            return Optional.of(LocalDate.parse(table.substring(TABLE_PREFIX.length()), DAY_FORMAT));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.repository;
+
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.location.LocationFix;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.projection.ShipmentSlaView;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.entities.type.ShipmentStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Plain JDBC statements for the high volume paths. Writes are sent as JDBC batches that the
+ * driver rewrites into multi-statement round trips, and scans read only the columns they need.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ShipmentBatchRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    // Fixes older than the stored one are ignored, so late or replayed pings never move a shipment back.
+    private static final String UPDATE_LOCATION_SQL =
+            "update shipment set current_location = ?, location_updated_at = ?, updated_at = ? " +
+            "where id = ? and (location_updated_at is null or location_updated_at < ?)";
+
+    private static final String SLA_COLUMNS =
+            "select id, order_id, tracking_number, origin, destination, status, estimated_delivery, " +
+            "coalesce(location_updated_at, updated_at) as last_seen_at, created_at from shipment ";
+
+    private static final RowMapper<ShipmentSlaView> SLA_ROW_MAPPER = (rs, rowNum) -> new ShipmentSlaView(
+            rs.getLong("id"),
+            rs.getLong("order_id"),
+            rs.getString("tracking_number"),
+            rs.getString("origin"),
+            rs.getString("destination"),
+            ShipmentStatus.valueOf(rs.getString("status")),
+            rs.getTimestamp("estimated_delivery").toInstant(),
+            rs.getTimestamp("last_seen_at").toInstant(),
+            rs.getTimestamp("created_at").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Writes the latest fix per shipment and returns the number of rows changed per entry, in list
+     * order. A zero means the shipment is unknown or already has a newer fix.
+     */
+    public int[] updateLocations(List<Map.Entry<Long, LocationFix>> fixes, Instant now) {
+        Timestamp updatedAt = Timestamp.from(now);
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_LOCATION_SQL, fixes, BATCH_SIZE, (ps, entry) -> {
+            Timestamp recordedAt = Timestamp.from(entry.getValue().recordedAt());
+            ps.setString(1, entry.getValue().location());
+            ps.setTimestamp(2, recordedAt);
+            ps.setTimestamp(3, updatedAt);
+            ps.setLong(4, entry.getKey());
+            ps.setTimestamp(5, recordedAt);
+        });
+        return flatten(counts, fixes.size());
+    }
+
+    /**
+     * Single-row form of {@link #updateLocations}, used to isolate the row that failed a batch.
+     */
+    public int updateLocation(Long shipmentId, LocationFix fix, Instant now) {
+        Timestamp recordedAt = Timestamp.from(fix.recordedAt());
+        return jdbcTemplate.update(UPDATE_LOCATION_SQL,
+                fix.location(), recordedAt, Timestamp.from(now), shipmentId, recordedAt);
+    }
+
+    /**
+     * Reads the next chunk of shipments in the given status whose ETA is before the horizon, in
+     * (estimated_delivery, id) order so the scan stays on the status/ETA index. Pass a null cursor
+     * for the first chunk.
+     */
+    public List<ShipmentSlaView> findSlaCandidates(ShipmentStatus status, Instant horizon,
+                                                   ShipmentSlaView after, int limit) {
+        if (after == null) {
+            return jdbcTemplate.query(SLA_COLUMNS +
+                            "where status = ? and estimated_delivery < ? " +
+                            "order by estimated_delivery, id limit ?",
+                    SLA_ROW_MAPPER, status.name(), Timestamp.from(horizon), limit);
+        }
+        Timestamp cursorEta = Timestamp.from(after.estimatedDelivery());
+        return jdbcTemplate.query(SLA_COLUMNS +
+                        "where status = ? and estimated_delivery < ? " +
+                        "and (estimated_delivery > ? or (estimated_delivery = ? and id > ?)) " +
+                        "order by estimated_delivery, id limit ?",
+                SLA_ROW_MAPPER, status.name(), Timestamp.from(horizon), cursorEta, cursorEta, after.id(), limit);
+    }
+
+    /**
+     * Moves each shipment to the target status if it is still in the expected one, returning the
+     * rows changed per id in list order.
+     */
+    public int[] transitionStatus(List<Long> ids, ShipmentStatus expected, ShipmentStatus target, Instant now) {
+        Timestamp updatedAt = Timestamp.from(now);
+        int[][] counts = jdbcTemplate.batchUpdate(
+                "update shipment set status = ?, updated_at = ? where id = ? and status = ?",
+                ids, BATCH_SIZE, (ps, id) -> {
+                    ps.setString(1, target.name());
+                    ps.setTimestamp(2, updatedAt);
+                    ps.setLong(3, id);
+                    ps.setString(4, expected.name());
+                });
+        return flatten(counts, ids.size());
+    }
+
+    public long countShipments() {
+        Long count = jdbcTemplate.queryForObject("select count(*) from shipment", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Streams the tracking number of every shipment with an id above afterId to the consumer and
+     * returns the highest id seen, or afterId when there is none. Pass 0 to read the whole table.
+     * The driver is asked to stream rows instead of buffering the whole result set.
+     */
+    public long forEachTrackingNumberAfter(long afterId, Consumer<String> consumer) {
+        long[] maxId = {afterId};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "select id, tracking_number from shipment where id > ?",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setLong(1, afterId);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            maxId[0] = Math.max(maxId[0], rs.getLong(1));
+            consumer.accept(rs.getString(2));
+        });
+        return maxId[0];
+    }
+
+    static int[] flatten(int[][] counts, int size) {
+        int[] result = new int[size];
+        int i = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                result[i++] = count;
+            }
+        }
+        return result;
+    }
+}
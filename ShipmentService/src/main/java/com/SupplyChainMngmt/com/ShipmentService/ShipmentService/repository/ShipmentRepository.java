@@ -1,8 +1,16 @@
 package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.repository;
 
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.projection.ShipmentRef;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.projection.ShipmentSummary;
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.entities.Shipment;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.entities.type.ShipmentStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,4 +18,65 @@ public interface ShipmentRepository extends JpaRepository<Shipment, Long> {
 
     Optional<Shipment> findByTrackingNumber(String trackingNumber);
     List<Shipment> findByOrderId(Long id);
+
+    @Query("select new com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.projection.ShipmentRef(" +
+            "s.id, s.orderId, s.trackingNumber) from Shipment s where s.id in :ids")
+    List<ShipmentRef> findRefsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Each listing below walks one index in its own order; the cursor is the sort key of the last
+    // row of the previous page.
+
+    // Soonest delivery first. MySQL sorts a missing ETA first, so a null cursor ETA still has
+    // later rows with and without an ETA.
+    @Query("""
+            select new com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.projection.ShipmentSummary(
+                s.id, s.orderId, s.trackingNumber, s.origin, s.destination, s.currentLocation,
+                s.status, s.estimatedDelivery, s.createdAt, s.updatedAt)
+            from Shipment s
+            where s.status = :status
+              and (:deliveryFrom is null or s.estimatedDelivery >= :deliveryFrom)
+              and (:deliveryTo is null or s.estimatedDelivery < :deliveryTo)
+              and (:cursorId is null
+                   or (:cursorEta is null and (s.estimatedDelivery is not null or s.id > :cursorId))
+                   or s.estimatedDelivery > :cursorEta
+                   or (s.estimatedDelivery = :cursorEta and s.id > :cursorId))
+            order by s.estimatedDelivery asc, s.id asc
+            """)
+    List<ShipmentSummary> findPageByStatus(@Param("status") ShipmentStatus status,
+                                           @Param("deliveryFrom") Instant deliveryFrom,
+                                           @Param("deliveryTo") Instant deliveryTo,
+                                           @Param("cursorEta") Instant cursorEta,
+                                           @Param("cursorId") Long cursorId,
+                                           Limit limit);
+
+    @Query("""
+            select new com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.projection.ShipmentSummary(
+                s.id, s.orderId, s.trackingNumber, s.origin, s.destination, s.currentLocation,
+                s.status, s.estimatedDelivery, s.createdAt, s.updatedAt)
+            from Shipment s
+            where s.destination = :destination
+              and (:cursorId is null or s.id > :cursorId)
+            order by s.id asc
+            """)
+    List<ShipmentSummary> findPageByDestination(@Param("destination") String destination,
+                                                @Param("cursorId") Long cursorId,
+                                                Limit limit);
+
+    // Newest first.
+    @Query("""
+            select new com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.projection.ShipmentSummary(
+                s.id, s.orderId, s.trackingNumber, s.origin, s.destination, s.currentLocation,
+                s.status, s.estimatedDelivery, s.createdAt, s.updatedAt)
+            from Shipment s
+            where (:from is null or s.createdAt >= :from)
+              and (:to is null or s.createdAt < :to)
+              and (:cursorAt is null or s.createdAt < :cursorAt
+                   or (s.createdAt = :cursorAt and s.id < :cursorId))
+            order by s.createdAt desc, s.id desc
+            """)
+    List<ShipmentSummary> findPageByCreatedAt(@Param("from") Instant from,
+                                              @Param("to") Instant to,
+                                              @Param("cursorAt") Instant cursorAt,
+                                              @Param("cursorId") Long cursorId,
+                                              Limit limit);
 }
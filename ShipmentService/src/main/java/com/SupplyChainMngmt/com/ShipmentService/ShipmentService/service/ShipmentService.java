@@ -3,8 +3,13 @@ package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service;
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.request.CreateShipmentRequest;
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.request.UpdateLocationRequest;
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.request.UpdateShipmentStatusRequest;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.response.ShipmentPageResponse;
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.response.ShipmentResponse;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.response.ShipmentTrackResponse;
 
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.entities.type.ShipmentStatus;
+
+import java.time.Instant;
 import java.util.List;
 
 public interface ShipmentService {
@@ -23,6 +28,15 @@ public interface ShipmentService {
 
     ShipmentResponse updateLocation(Long id, UpdateLocationRequest request);
 
+    ShipmentPageResponse getPageByStatus(ShipmentStatus status, Instant deliveryFrom, Instant deliveryTo,
+                                         String cursor, Integer limit);
+
+    ShipmentPageResponse getPageByDestination(String destination, String cursor, Integer limit);
+
+    ShipmentPageResponse getPageByCreatedAt(Instant from, Instant to, String cursor, Integer limit);
+
+    ShipmentTrackResponse getTrack(Long id, Instant from, Instant to);
+
     void delete(Long id);
 }
 
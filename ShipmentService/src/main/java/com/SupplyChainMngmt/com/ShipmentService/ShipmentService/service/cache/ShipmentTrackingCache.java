@@ -0,0 +1,273 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.cache;
+
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.response.ShipmentResponse;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.entities.type.ShipmentStatus;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.repository.ShipmentBatchRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Read path of the public tracking endpoint.
+ *
+ * Responses are cached by tracking number and refreshed by the local write paths once they
+ * commit; changes made on other replicas arrive through shipment.events. A Bloom filter of every
+ * known tracking number answers lookups for numbers that were never issued without touching
+ * MySQL. The filter is rebuilt from the table at startup and periodically. Between builds a short
+ * catch-up scan adds every shipment above the highest id already read. This covers creates whose
+ * event this instance never received, such as those published before its per-instance consumer
+ * was assigned partitions. The filter only starts rejecting after a catch-up that began once the
+ * consumer was assigned.
+ */
+@Component
+@Slf4j
+public class ShipmentTrackingCache {
+
+    private final ShipmentBatchRepository shipmentBatchRepository;
+    private final boolean enabled;
+    private final Cache<String, ShipmentResponse> cache;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter rejectedCounter;
+
+    // Guards the filter swap so a concurrent register() lands in the filter that survives it.
+    private final Object swapLock = new Object();
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding;
+    private volatile boolean filterReady;
+    private volatile boolean eventsAssigned;
+    private boolean built;
+    private long scannedUpToId;
+
+    @Value("${app.shipment.tracking-cache.bloom.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${app.shipment.tracking-cache.bloom.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    public ShipmentTrackingCache(ShipmentBatchRepository shipmentBatchRepository, MeterRegistry meterRegistry,
+                                 @Value("${app.shipment.tracking-cache.enabled:true}") boolean enabled,
+                                 @Value("${app.shipment.tracking-cache.max-size:100000}") long maxSize,
+                                 @Value("${app.shipment.tracking-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.shipmentBatchRepository = shipmentBatchRepository;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "shipment.tracking");
+        this.hitCounter = Counter.builder("shipment.tracking.lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("shipment.tracking.lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("shipment.tracking.lookups")
+                .description("Tracking lookups answered by the Bloom filter without a query")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached response or loads it. Returns null without calling the loader when the
+     * tracking number is certainly unknown.
+     */
+    public ShipmentResponse get(String trackingNumber, Supplier<ShipmentResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        BloomFilter current = filter;
+        if (filterReady && !current.mightContain(trackingNumber)) {
+            rejectedCounter.increment();
+            return null;
+        }
+        ShipmentResponse cached = cache.getIfPresent(trackingNumber);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+        missCounter.increment();
+        ShipmentResponse loaded = loader.get();
+        // A write that committed while loading wins over what was read.
+        ShipmentResponse previous = cache.asMap().putIfAbsent(trackingNumber, loaded);
+        return previous != null ? previous : loaded;
+    }
+
+    public void register(String trackingNumber) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (swapLock) {
+            if (filter != null) {
+                filter.add(trackingNumber);
+            }
+            if (rebuilding != null) {
+                rebuilding.add(trackingNumber);
+            }
+        }
+    }
+
+    /**
+     * Called once the shipment event consumer holds its partitions; creates published from then on
+     * reach {@link #register} through events.
+     */
+    public void onEventsAssigned() {
+        eventsAssigned = true;
+    }
+
+    public void putAfterCommit(ShipmentResponse response) {
+        if (enabled) {
+            afterCommit(() -> cache.put(response.getTrackingNumber(), response));
+        }
+    }
+
+    public void invalidateAfterCommit(String trackingNumber) {
+        if (enabled) {
+            afterCommit(() -> cache.invalidate(trackingNumber));
+        }
+    }
+
+    /**
+     * Applies a location written by the ingestion path to the cached entry, if any.
+     */
+    public void applyLocation(String trackingNumber, String location, Instant recordedAt) {
+        if (enabled) {
+            cache.asMap().computeIfPresent(trackingNumber, (k, response) -> response.toBuilder()
+                    .currentLocation(location)
+                    .locationUpdatedAt(recordedAt)
+                    .build());
+        }
+    }
+
+    public void applyStatus(String trackingNumber, ShipmentStatus status, Instant updatedAt) {
+        if (enabled) {
+            cache.asMap().computeIfPresent(trackingNumber, (k, response) -> response.toBuilder()
+                    .status(status)
+                    .updatedAt(updatedAt)
+                    .build());
+        }
+    }
+
+    /**
+     * Applies a shipment event from any replica. Entries that already reflect the event are kept,
+     * so this instance's own events do not evict what it just cached.
+     */
+    public void onShipmentEvent(String eventType, String trackingNumber, ShipmentStatus status, String location) {
+        if (!enabled || trackingNumber == null) {
+            return;
+        }
+        if ("SHIPMENT_CREATED".equals(eventType)) {
+            register(trackingNumber);
+        }
+        ShipmentResponse cached = cache.getIfPresent(trackingNumber);
+        if (cached == null) {
+            return;
+        }
+        boolean current = (status == null || cached.getStatus() == status)
+                && (location == null || Objects.equals(cached.getCurrentLocation(), location));
+        if (!current) {
+            cache.asMap().remove(trackingNumber, cached);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildFilter() {
+        if (enabled) {
+            rebuildFilter();
+        }
+    }
+
+    /**
+     * Rebuilds the filter sized for the current table, which also sheds numbers of deleted
+     * shipments and keeps the false positive rate in check as the table grows.
+     */
+    @Scheduled(cron = "${app.shipment.tracking-cache.bloom.rebuild-cron:0 30 3 * * *}")
+    public synchronized void rebuildFilter() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        BloomFilter next = null;
+        try {
+            long rows = shipmentBatchRepository.countShipments();
+            next = new BloomFilter(Math.max(expectedInsertions, rows * 2), falsePositiveRate);
+            synchronized (swapLock) {
+                if (filter == null) {
+                    filter = next;
+                }
+                rebuilding = next;
+            }
+            long maxId = shipmentBatchRepository.forEachTrackingNumberAfter(0, next::add);
+            synchronized (swapLock) {
+                filter = next;
+                rebuilding = null;
+            }
+            scannedUpToId = maxId;
+            built = true;
+            log.info("Tracking number filter built from {} shipments in {}",
+                    rows, Duration.ofNanos(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            log.error("Failed to build tracking number filter", e);
+            synchronized (swapLock) {
+                if (rebuilding == next) {
+                    rebuilding = null;
+                }
+            }
+            return;
+        }
+        catchUp();
+    }
+
+    /**
+     * Adds shipments created since the last scan. Rows committed after the build read the table
+     * are found here even if their create event was missed.
+     */
+    @Scheduled(fixedDelayString = "${app.shipment.tracking-cache.bloom.catch-up-interval-ms:5000}",
+            initialDelayString = "${app.shipment.tracking-cache.bloom.catch-up-interval-ms:5000}")
+    public synchronized void catchUp() {
+        if (!enabled || !built) {
+            return;
+        }
+        boolean assigned = eventsAssigned;
+        try {
+            scannedUpToId = shipmentBatchRepository.forEachTrackingNumberAfter(scannedUpToId, this::register);
+        } catch (RuntimeException e) {
+            log.error("Failed to catch up tracking number filter", e);
+            return;
+        }
+        if (assigned && !filterReady) {
+            filterReady = true;
+            log.info("Tracking number filter ready");
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
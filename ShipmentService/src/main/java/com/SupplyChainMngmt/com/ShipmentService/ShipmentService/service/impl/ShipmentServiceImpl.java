@@ -1,20 +1,31 @@
 package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.impl;
 
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.projection.ShipmentSummary;
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.request.CreateShipmentRequest;
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.request.UpdateLocationRequest;
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.request.UpdateShipmentStatusRequest;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.response.ShipmentPageResponse;
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.response.ShipmentResponse;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.response.ShipmentTrackResponse;
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.entities.Shipment;
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.entities.type.ShipmentStatus;
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.events.ShipmentEventPublisher;
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.exception.ResourceNotFoundException;
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.repository.ShipmentRepository;
 import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.ShipmentService;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.cache.ShipmentTrackingCache;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.location.LocationFix;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.location.LocationHistory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,8 +33,13 @@ import java.util.stream.Collectors;
 @Transactional
 public class ShipmentServiceImpl implements ShipmentService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final ShipmentRepository shipmentRepository;
     private final ShipmentEventPublisher shipmentEventPublisher;
+    private final LocationHistory locationHistory;
+    private final ShipmentTrackingCache shipmentTrackingCache;
 
     @Override
     public ShipmentResponse createShipment(CreateShipmentRequest request) {
@@ -39,8 +55,11 @@ public class ShipmentServiceImpl implements ShipmentService {
         Shipment saved = shipmentRepository.save(shipment);
 
         shipmentEventPublisher.publishShipmentCreated(saved);
+        shipmentTrackingCache.register(saved.getTrackingNumber());
 
-        return mapToResponse(saved);
+        ShipmentResponse response = mapToResponse(saved);
+        shipmentTrackingCache.putAfterCommit(response);
+        return response;
     }
 
     @Override
@@ -61,12 +80,18 @@ public class ShipmentServiceImpl implements ShipmentService {
 
     }
 
+    // Runs without a transaction so lookups answered by the tracking cache never take a connection.
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public ShipmentResponse getByTrackingNumber(String trackingNumber) {
-        Shipment shipment = shipmentRepository.findByTrackingNumber(trackingNumber)
-                .orElseThrow(() -> new ResourceNotFoundException("Resource not found with tracking number: "+trackingNumber));
-        return mapToResponse(shipment);
+        ShipmentResponse response = shipmentTrackingCache.get(trackingNumber, () -> shipmentRepository
+                .findByTrackingNumber(trackingNumber)
+                .map(this::mapToResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Resource not found with tracking number: "+trackingNumber)));
+        if (response == null) {
+            throw new ResourceNotFoundException("Resource not found with tracking number: "+trackingNumber);
+        }
+        return response;
     }
 
     @Override
@@ -78,6 +103,60 @@ public class ShipmentServiceImpl implements ShipmentService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ShipmentPageResponse getPageByStatus(ShipmentStatus status, Instant deliveryFrom, Instant deliveryTo,
+                                                String cursor, Integer limit) {
+        if (status == null) {
+            throw new IllegalArgumentException("status is required");
+        }
+        int pageSize = pageSize(limit);
+        Instant cursorEta = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            int separator = cursor.lastIndexOf('_');
+            String eta = separator < 0 ? "" : cursor.substring(0, separator);
+            cursorEta = eta.isEmpty() ? null : parseInstant(eta, cursor);
+            cursorId = parseId(cursor.substring(separator + 1), cursor);
+        }
+        List<ShipmentSummary> rows = shipmentRepository.findPageByStatus(status, deliveryFrom, deliveryTo,
+                cursorEta, cursorId, Limit.of(pageSize + 1));
+        return toPage(rows, pageSize, last ->
+                (last.estimatedDelivery() == null ? "" : last.estimatedDelivery().toString()) + "_" + last.id());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ShipmentPageResponse getPageByDestination(String destination, String cursor, Integer limit) {
+        if (destination == null || destination.isBlank()) {
+            throw new IllegalArgumentException("destination is required");
+        }
+        int pageSize = pageSize(limit);
+        Long cursorId = cursor == null || cursor.isBlank() ? null : parseId(cursor, cursor);
+        List<ShipmentSummary> rows = shipmentRepository.findPageByDestination(destination, cursorId,
+                Limit.of(pageSize + 1));
+        return toPage(rows, pageSize, last -> String.valueOf(last.id()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ShipmentPageResponse getPageByCreatedAt(Instant from, Instant to, String cursor, Integer limit) {
+        int pageSize = pageSize(limit);
+        Instant cursorAt = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            int separator = cursor.lastIndexOf('_');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            cursorAt = parseInstant(cursor.substring(0, separator), cursor);
+            cursorId = parseId(cursor.substring(separator + 1), cursor);
+        }
+        List<ShipmentSummary> rows = shipmentRepository.findPageByCreatedAt(from, to, cursorAt, cursorId,
+                Limit.of(pageSize + 1));
+        return toPage(rows, pageSize, last -> last.createdAt() + "_" + last.id());
+    }
+
     @Override
     public ShipmentResponse updateStatus(Long id, UpdateShipmentStatusRequest request) {
         Shipment shipment = shipmentRepository.findById(id)
@@ -87,7 +166,9 @@ public class ShipmentServiceImpl implements ShipmentService {
 
         shipmentEventPublisher.publishShipmentStatusUpdated(saved);
 
-        return mapToResponse(saved);
+        ShipmentResponse response = mapToResponse(saved);
+        shipmentTrackingCache.putAfterCommit(response);
+        return response;
     }
 
     @Override
@@ -95,11 +176,24 @@ public class ShipmentServiceImpl implements ShipmentService {
         Shipment shipment = shipmentRepository.findById(id)
                 .orElseThrow(()->new ResourceNotFoundException("Resource not found with id: "+id));
         shipment.setCurrentLocation(request.getCurrentLocation());
+        shipment.setLocationUpdatedAt(Instant.now());
         Shipment saved = shipmentRepository.save(shipment);
+        locationHistory.append(saved.getId(), new LocationFix(saved.getCurrentLocation(), saved.getLocationUpdatedAt()));
 
         shipmentEventPublisher.publishShipmentLocationUpdated(saved);
 
-        return mapToResponse(saved);
+        ShipmentResponse response = mapToResponse(saved);
+        shipmentTrackingCache.putAfterCommit(response);
+        return response;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ShipmentTrackResponse getTrack(Long id, Instant from, Instant to) {
+        if (!shipmentRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Resource not found with id: "+id);
+        }
+        return locationHistory.read(id, from, to);
     }
 
     @Override
@@ -107,6 +201,38 @@ public class ShipmentServiceImpl implements ShipmentService {
         Shipment shipment = shipmentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Resource not found with id: "+id));
         shipmentRepository.delete(shipment);
+        shipmentTrackingCache.invalidateAfterCommit(shipment.getTrackingNumber());
+    }
+
+    private static int pageSize(Integer limit) {
+        return limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+    }
+
+    private static ShipmentPageResponse toPage(List<ShipmentSummary> rows, int pageSize,
+                                               Function<ShipmentSummary, String> cursorOf) {
+        boolean hasMore = rows.size() > pageSize;
+        List<ShipmentSummary> page = hasMore ? rows.subList(0, pageSize) : rows;
+        return ShipmentPageResponse.builder()
+                .shipments(page)
+                .nextCursor(page.isEmpty() ? null : cursorOf.apply(page.get(page.size() - 1)))
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private static Instant parseInstant(String value, String cursor) {
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static Long parseId(String value, String cursor) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
     }
 
     public ShipmentResponse mapToResponse(Shipment shipment){
@@ -117,6 +243,7 @@ public class ShipmentServiceImpl implements ShipmentService {
                 .origin(shipment.getOrigin())
                 .destination(shipment.getDestination())
                 .currentLocation(shipment.getCurrentLocation())
+                .locationUpdatedAt(shipment.getLocationUpdatedAt())
                 .status(shipment.getStatus())
                 .estimatedDelivery(shipment.getEstimatedDelivery())
                 .createdAt(shipment.getCreatedAt())
@@ -0,0 +1,13 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.location;
+
+import java.time.Instant;
+
+/**
+ * A reported position of a shipment and the time the device recorded it.
+ */
+public record LocationFix(String location, Instant recordedAt) {
+
+    public LocationFix newer(LocationFix other) {
+        return other.recordedAt.isAfter(recordedAt) ? other : this;
+    }
+}
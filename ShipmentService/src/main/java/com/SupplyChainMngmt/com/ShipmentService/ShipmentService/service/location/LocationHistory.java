@@ -0,0 +1,207 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.location;
+
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.response.ShipmentTrackResponse;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.response.TrackPoint;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.repository.LocationHistoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only trail of every accepted location fix, kept apart from the shipment row.
+ *
+ * Fixes are buffered and appended in batches to a table per UTC day. Track queries only touch the
+ * day tables overlapping the requested range, and retention drops whole days. Every replica
+ * creates and drops day tables, so the known days are refreshed from the schema on a schedule and
+ * whenever a read covers a day this instance has not seen.
+ */
+@Component
+@Slf4j
+public class LocationHistory {
+
+    private final LocationHistoryRepository locationHistoryRepository;
+
+    private final Queue<Map.Entry<Long, LocationFix>> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final ConcurrentSkipListSet<LocalDate> days = new ConcurrentSkipListSet<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Counter appendedCounter;
+    private final Counter droppedCounter;
+
+    @Value("${app.shipment.location.history.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${app.shipment.location.history.max-buffered:500000}")
+    private int maxBuffered;
+
+    @Value("${app.shipment.location.history.max-points:5000}")
+    private int maxPoints;
+
+    public LocationHistory(LocationHistoryRepository locationHistoryRepository, MeterRegistry meterRegistry) {
+        this.locationHistoryRepository = locationHistoryRepository;
+        this.appendedCounter = Counter.builder("shipment.location.history.appended")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("shipment.location.history.dropped")
+                .description("Fixes not recorded because the buffer was full or the timestamp is outside retention")
+                .register(meterRegistry);
+        Gauge.builder("shipment.location.history.buffered", buffered, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues a fix for the history log. Fixes older than the retention window or more than a day
+     * ahead of this clock are dropped, so a misconfigured device cannot create stray day tables.
+     */
+    public void append(Long shipmentId, LocationFix fix) {
+        Instant now = Instant.now();
+        if (fix.recordedAt().isBefore(now.minus(Duration.ofDays(retentionDays)))
+                || fix.recordedAt().isAfter(now.plus(Duration.ofDays(1)))
+                || buffered.get() >= maxBuffered) {
+            droppedCounter.increment();
+            return;
+        }
+        buffer.add(Map.entry(shipmentId, fix));
+        buffered.incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${app.shipment.location.history.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        if (buffered.get() > 0) {
+            flush();
+        }
+    }
+
+    public int flush() {
+        if (!flushLock.tryLock()) {
+            return 0;
+        }
+        try {
+            Map<LocalDate, List<Map.Entry<Long, LocationFix>>> byDay = new TreeMap<>();
+            Map.Entry<Long, LocationFix> entry;
+            int drained = 0;
+            while ((entry = buffer.poll()) != null) {
+                buffered.decrementAndGet();
+                byDay.computeIfAbsent(dayOf(entry.getValue().recordedAt()), d -> new ArrayList<>()).add(entry);
+                drained++;
+            }
+            byDay.forEach(this::appendDay);
+            return drained;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Reads the trail of one shipment in [from, to), oldest first, capped at the configured
+     * number of points.
+     */
+    public ShipmentTrackResponse read(Long shipmentId, Instant from, Instant to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        List<TrackPoint> points = new ArrayList<>();
+        int limit = maxPoints + 1;
+        LocalDate first = dayOf(from);
+        LocalDate last = dayOf(to);
+        NavigableSet<LocalDate> queried = days.subSet(first, true, last, true);
+        if (queried.size() <= ChronoUnit.DAYS.between(first, last)) {
+            refreshDays();
+        }
+        for (LocalDate day : queried) {
+            points.addAll(locationHistoryRepository.findTrack(day, shipmentId, from, to, limit - points.size()));
+            if (points.size() >= limit) {
+                break;
+            }
+        }
+        boolean truncated = points.size() > maxPoints;
+        return ShipmentTrackResponse.builder()
+                .shipmentId(shipmentId)
+                .from(from)
+                .to(to)
+                .points(truncated ? points.subList(0, maxPoints) : points)
+                .truncated(truncated)
+                .build();
+    }
+
+    @Scheduled(cron = "${app.shipment.location.history.retention-cron:0 5 0 * * *}", zone = "UTC")
+    public void dropExpiredDays() {
+        LocalDate oldestKept = LocalDate.now(ZoneOffset.UTC).minusDays(retentionDays);
+        for (LocalDate day : new ArrayList<>(days.headSet(oldestKept))) {
+            locationHistoryRepository.dropTable(day);
+            days.remove(day);
+            log.info("Dropped location history for {}", day);
+        }
+    }
+
+    /**
+     * Replaces the known days with the tables currently in the schema. A table this instance creates
+     * concurrently may be missed; appendDay then simply creates it again, which is a no-op.
+     */
+    @Scheduled(fixedDelayString = "${app.shipment.location.history.refresh-interval-ms:60000}")
+    public void refreshDays() {
+        List<LocalDate> found = locationHistoryRepository.findDays();
+        days.addAll(found);
+        days.retainAll(found);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadDays() {
+        refreshDays();
+        log.info("Location history has {} day tables", days.size());
+        dropExpiredDays();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void appendDay(LocalDate day, List<Map.Entry<Long, LocationFix>> fixes) {
+        try {
+            if (!days.contains(day)) {
+                locationHistoryRepository.createTable(day);
+                days.add(day);
+            }
+            locationHistoryRepository.append(day, fixes);
+            appendedCounter.increment(fixes.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to append {} location fixes for {}, will retry", fixes.size(), day, e);
+            fixes.forEach(fix -> {
+                if (buffered.get() < maxBuffered) {
+                    buffer.add(fix);
+                    buffered.incrementAndGet();
+                } else {
+                    droppedCounter.increment();
+                }
+            });
+        }
+    }
+
+    private static LocalDate dayOf(Instant instant) {
+        return LocalDate.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,285 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.location;
+
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.projection.ShipmentRef;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.request.LocationPingRequest;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.response.LocationIngestResponse;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.events.ShipmentEventPublisher;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.repository.ShipmentBatchRepository;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.repository.ShipmentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind ingestion of location pings.
+ *
+ * Pings only replace the latest fix per shipment in memory, so a burst from one truck costs a map
+ * update per ping and a single row write per flush. Flushes run on a short interval as one JDBC
+ * batch of conditional updates, and a shipment announces its position at most once per event
+ * window; a fix suppressed by the window is announced when the window closes.
+ */
+@Component
+@Slf4j
+public class LocationIngestor {
+
+    // Width of shipment.current_location and of the history location column.
+    public static final int MAX_LOCATION_LENGTH = 255;
+
+    private final ShipmentBatchRepository shipmentBatchRepository;
+    private final ShipmentRepository shipmentRepository;
+    private final ShipmentEventPublisher shipmentEventPublisher;
+    private final LocationHistory locationHistory;
+
+    private final ConcurrentHashMap<Long, LocationFix> pending = new ConcurrentHashMap<>();
+    // Only touched by the thread holding flushLock.
+    private final Map<Long, LocationFix> unannounced = new HashMap<>();
+    private final Map<Long, Long> lastAnnouncedAt = new HashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final Counter writtenCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+    private final Counter eventCounter;
+    private final Timer flushTimer;
+
+    @Value("${app.shipment.location.event-window-ms:30000}")
+    private long eventWindowMs;
+
+    // A fix from the future would win every LocationFix.newer comparison and pin the shipment's location.
+    @Value("${app.shipment.location.max-clock-skew-ms:300000}")
+    private long maxClockSkewMs;
+
+    public LocationIngestor(ShipmentBatchRepository shipmentBatchRepository, ShipmentRepository shipmentRepository,
+                            ShipmentEventPublisher shipmentEventPublisher, LocationHistory locationHistory,
+                            MeterRegistry meterRegistry) {
+        this.shipmentBatchRepository = shipmentBatchRepository;
+        this.shipmentRepository = shipmentRepository;
+        this.shipmentEventPublisher = shipmentEventPublisher;
+        this.locationHistory = locationHistory;
+        this.acceptedCounter = Counter.builder("shipment.location.pings")
+                .tag("result", "accepted")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("shipment.location.pings")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("shipment.location.rows")
+                .tag("result", "written")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("shipment.location.rows")
+                .description("Fixes not written because the shipment is unknown or already has a newer fix")
+                .tag("result", "skipped")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("shipment.location.rows")
+                .description("Fixes dropped because the database refused the row itself")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.eventCounter = Counter.builder("shipment.location.events")
+                .description("Location events published by the ingestion path")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("shipment.location.flush")
+                .description("Time to write one batch of coalesced location fixes")
+                .register(meterRegistry);
+        Gauge.builder("shipment.location.pending", pending, Map::size)
+                .description("Shipments with a fix waiting to be written")
+                .register(meterRegistry);
+    }
+
+    public LocationIngestResponse acceptAll(List<LocationPingRequest> pings) {
+        int accepted = 0;
+        for (LocationPingRequest ping : pings) {
+            if (accept(ping)) {
+                accepted++;
+            }
+        }
+        return new LocationIngestResponse(accepted, pings.size() - accepted);
+    }
+
+    /**
+     * Records a ping as the latest fix of its shipment unless a newer one is already pending. Pings
+     * without a timestamp are stamped on arrival; pings stamped further ahead of this clock than
+     * the allowed skew are rejected.
+     */
+    public boolean accept(LocationPingRequest ping) {
+        if (ping == null || ping.getShipmentId() == null
+                || ping.getCurrentLocation() == null || ping.getCurrentLocation().isBlank()
+                || ping.getCurrentLocation().length() > MAX_LOCATION_LENGTH) {
+            rejectedCounter.increment();
+            return false;
+        }
+        Instant now = Instant.now();
+        Instant recordedAt = ping.getRecordedAt() != null ? ping.getRecordedAt() : now;
+        if (recordedAt.isAfter(now.plusMillis(maxClockSkewMs))) {
+            rejectedCounter.increment();
+            return false;
+        }
+        LocationFix fix = new LocationFix(ping.getCurrentLocation(), recordedAt);
+        pending.merge(ping.getShipmentId(), fix, LocationFix::newer);
+        acceptedCounter.increment();
+        return true;
+    }
+
+    public void reject() {
+        rejectedCounter.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${app.shipment.location.flush-interval-ms:500}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * Writes every pending fix in one JDBC batch and announces the shipments whose event window has
+     * passed. Only fixes that reached their shipment row go to the location history, so pings for
+     * unknown shipments leave no trail; the history therefore holds at most one fix per shipment
+     * per flush. If another thread is already flushing, this call returns immediately.
+     */
+    public int flush() {
+        if (!flushLock.tryLock()) {
+            return 0;
+        }
+        try {
+            List<Map.Entry<Long, LocationFix>> batch = drain();
+            int written = 0;
+            if (!batch.isEmpty()) {
+                written = write(batch);
+            }
+            announce();
+            return written;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushLock.lock();
+        try {
+            List<Map.Entry<Long, LocationFix>> batch = drain();
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private List<Map.Entry<Long, LocationFix>> drain() {
+        List<Map.Entry<Long, LocationFix>> batch = new ArrayList<>(pending.size());
+        for (Long shipmentId : pending.keySet()) {
+            // A ping landing after the remove starts a fresh entry for the next flush.
+            LocationFix fix = pending.remove(shipmentId);
+            if (fix != null) {
+                batch.add(Map.entry(shipmentId, fix));
+            }
+        }
+        return batch;
+    }
+
+    private int write(List<Map.Entry<Long, LocationFix>> batch) {
+        Instant now = Instant.now();
+        int[] counts;
+        try {
+            counts = flushTimer.record(() -> shipmentBatchRepository.updateLocations(batch, now));
+        } catch (RuntimeException e) {
+            log.warn("Batch write of {} location fixes failed, retrying row by row", batch.size(), e);
+            counts = writeRows(batch, now);
+        }
+        int written = 0;
+        int failed = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == Statement.EXECUTE_FAILED) {
+                failed++;
+                continue;
+            }
+            if (counts[i] == 0) {
+                continue;
+            }
+            Map.Entry<Long, LocationFix> entry = batch.get(i);
+            unannounced.put(entry.getKey(), entry.getValue());
+            locationHistory.append(entry.getKey(), entry.getValue());
+            written++;
+        }
+        writtenCounter.increment(written);
+        skippedCounter.increment(counts.length - written - failed);
+        return written;
+    }
+
+    /**
+     * Writes the batch one row at a time so a single row the database rejects cannot hold back the
+     * rest. Rejected rows are dropped; on any other failure the unwritten fixes go back to pending.
+     */
+    private int[] writeRows(List<Map.Entry<Long, LocationFix>> batch, Instant now) {
+        int[] counts = new int[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            Map.Entry<Long, LocationFix> entry = batch.get(i);
+            try {
+                counts[i] = shipmentBatchRepository.updateLocation(entry.getKey(), entry.getValue(), now);
+            } catch (DataIntegrityViolationException e) {
+                log.error("Dropping location fix for shipment {} rejected by the database", entry.getKey(), e);
+                failedCounter.increment();
+                counts[i] = Statement.EXECUTE_FAILED;
+            } catch (RuntimeException e) {
+                log.error("Failed to write {} location fixes, will retry", batch.size() - i, e);
+                batch.subList(i, batch.size())
+                        .forEach(remaining -> pending.merge(remaining.getKey(), remaining.getValue(), LocationFix::newer));
+                // Requeued rows are neither written nor skipped.
+                return Arrays.copyOf(counts, i);
+            }
+        }
+        return counts;
+    }
+
+    private void announce() {
+        long now = System.currentTimeMillis();
+        lastAnnouncedAt.values().removeIf(announcedAt -> now - announcedAt >= eventWindowMs);
+        Map<Long, LocationFix> due = new HashMap<>();
+        Iterator<Map.Entry<Long, LocationFix>> iterator = unannounced.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, LocationFix> entry = iterator.next();
+            if (!lastAnnouncedAt.containsKey(entry.getKey())) {
+                due.put(entry.getKey(), entry.getValue());
+                iterator.remove();
+            }
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+        try {
+            Map<Long, ShipmentRef> refs = shipmentRepository.findRefsByIdIn(due.keySet()).stream()
+                    .collect(Collectors.toMap(ShipmentRef::id, Function.identity()));
+            due.forEach((shipmentId, fix) -> {
+                ShipmentRef ref = refs.get(shipmentId);
+                if (ref != null) {
+                    shipmentEventPublisher.publishShipmentLocationUpdated(ref, fix);
+                    lastAnnouncedAt.put(shipmentId, now);
+                    eventCounter.increment();
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to announce {} shipment locations, will retry", due.size(), e);
+            due.forEach(unannounced::putIfAbsent);
+        }
+    }
+}
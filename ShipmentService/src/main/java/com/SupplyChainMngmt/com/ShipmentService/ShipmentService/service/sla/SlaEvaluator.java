@@ -0,0 +1,174 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.sla;
+
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.projection.ShipmentSlaView;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.entities.type.ShipmentStatus;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.events.ShipmentEventPublisher;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.repository.ShipmentBatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Marks in-transit shipments DELAYED once they can no longer make their ETA.
+ *
+ * A shipment is late when its ETA plus the grace period has passed, or when its ETA falls within
+ * the silence window and no location has been received for that long. Each pass reads candidates
+ * in keyset chunks along the status/ETA index, only down to the latest ETA that can qualify, and
+ * hands every chunk to a bounded worker pool that applies the conditional updates and publishes a
+ * status event per shipment actually moved.
+ */
+@Component
+@Slf4j
+public class SlaEvaluator {
+
+    private static final List<ShipmentStatus> IN_TRANSIT = List.of(ShipmentStatus.PICKED_UP, ShipmentStatus.IN_TRANSIT);
+
+    private final ShipmentBatchRepository shipmentBatchRepository;
+    private final ShipmentEventPublisher shipmentEventPublisher;
+    private final ThreadPoolExecutor workers;
+
+    private final Timer passTimer;
+    private final Counter scannedCounter;
+    private final Counter delayedCounter;
+
+    @Value("${app.shipment.sla.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.shipment.sla.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${app.shipment.sla.grace-ms:900000}")
+    private long graceMs;
+
+    @Value("${app.shipment.sla.silence-ms:21600000}")
+    private long silenceMs;
+
+    public SlaEvaluator(ShipmentBatchRepository shipmentBatchRepository, ShipmentEventPublisher shipmentEventPublisher,
+                        MeterRegistry meterRegistry, @Value("${app.shipment.sla.workers:4}") int workerCount) {
+        this.shipmentBatchRepository = shipmentBatchRepository;
+        this.shipmentEventPublisher = shipmentEventPublisher;
+        AtomicInteger threadIds = new AtomicInteger();
+        // A full queue makes the scanning thread evaluate the chunk itself, which bounds memory
+        // to a few chunks regardless of how many shipments are active. Once the pool is shut down
+        // the submission fails instead: CallerRunsPolicy would silently drop the task and leave
+        // its future, and the pass joining on it, waiting forever.
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workerCount * 2),
+                runnable -> new Thread(runnable, "sla-evaluator-" + threadIds.incrementAndGet()),
+                (runnable, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("SLA evaluator is shutting down");
+                    }
+                    runnable.run();
+                });
+        this.passTimer = Timer.builder("shipment.sla.pass")
+                .description("Duration of one SLA evaluation pass")
+                .register(meterRegistry);
+        this.scannedCounter = Counter.builder("shipment.sla.rows.scanned")
+                .description("In-transit shipments read by SLA evaluation passes")
+                .register(meterRegistry);
+        this.delayedCounter = Counter.builder("shipment.sla.delayed")
+                .description("Shipments moved to DELAYED by SLA evaluation")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.shipment.sla.interval-ms:60000}",
+            initialDelayString = "${app.shipment.sla.initial-delay-ms:60000}")
+    public void scheduledPass() {
+        if (enabled) {
+            evaluate();
+        }
+    }
+
+    /**
+     * Runs one full pass and returns the number of shipments moved to DELAYED.
+     */
+    public int evaluate() {
+        long start = System.nanoTime();
+        Instant now = Instant.now();
+        Instant horizon = now.plusMillis(silenceMs);
+        AtomicInteger delayed = new AtomicInteger();
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        long scanned = 0;
+        try {
+            for (ShipmentStatus status : IN_TRANSIT) {
+                ShipmentSlaView cursor = null;
+                List<ShipmentSlaView> chunk;
+                do {
+                    chunk = shipmentBatchRepository.findSlaCandidates(status, horizon, cursor, chunkSize);
+                    if (chunk.isEmpty()) {
+                        break;
+                    }
+                    scanned += chunk.size();
+                    scannedCounter.increment(chunk.size());
+                    cursor = chunk.get(chunk.size() - 1);
+                    List<ShipmentSlaView> work = chunk;
+                    pending.add(CompletableFuture.runAsync(() -> delayed.addAndGet(apply(status, work, now)), workers));
+                } while (chunk.size() == chunkSize);
+            }
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        } catch (RuntimeException e) {
+            log.error("SLA evaluation pass failed after scanning {} shipments", scanned, e);
+        } finally {
+            passTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (delayed.get() > 0) {
+            log.info("SLA evaluation scanned {} shipments and delayed {} in {}",
+                    scanned, delayed.get(), Duration.ofNanos(System.nanoTime() - start));
+        }
+        return delayed.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    private int apply(ShipmentStatus status, List<ShipmentSlaView> chunk, Instant now) {
+        List<ShipmentSlaView> late = new ArrayList<>();
+        for (ShipmentSlaView shipment : chunk) {
+            if (isLate(shipment, now)) {
+                late.add(shipment);
+            }
+        }
+        if (late.isEmpty()) {
+            return 0;
+        }
+        // Another instance or a manual update may have moved a shipment since it was read;
+        // only rows still in the scanned status are changed and announced.
+        int[] counts = shipmentBatchRepository.transitionStatus(
+                late.stream().map(ShipmentSlaView::id).toList(), status, ShipmentStatus.DELAYED, now);
+        int moved = 0;
+        for (int i = 0; i < late.size(); i++) {
+            if (counts[i] != 0) {
+                shipmentEventPublisher.publishShipmentStatusUpdated(late.get(i), ShipmentStatus.DELAYED, now);
+                moved++;
+            }
+        }
+        delayedCounter.increment(moved);
+        return moved;
+    }
+
+    private boolean isLate(ShipmentSlaView shipment, Instant now) {
+        if (shipment.estimatedDelivery().plusMillis(graceMs).isBefore(now)) {
+            return true;
+        }
+        return shipment.lastSeenAt().plusMillis(silenceMs).isBefore(now);
+    }
+}
@@ -0,0 +1,65 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void neverReportsAnAddedValueAsAbsent() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("TRK-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("TRK-" + i)).as("TRK-%d", i).isTrue();
+        }
+    }
+
+    @Test
+    void keepsFalsePositivesNearTheConfiguredRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("TRK-" + i);
+        }
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("UNKNOWN-" + i))
+                .count();
+
+        // 1% expected; allow generous slack so the check is stable.
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        assertThat(filter.mightContain("TRK-1")).isFalse();
+        assertThat(filter.mightContain("")).isFalse();
+    }
+
+    @Test
+    void concurrentAddsAreAllVisible() {
+        BloomFilter filter = new BloomFilter(40_000, 0.01);
+        List<CompletableFuture<Void>> adders = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t * 10_000;
+            adders.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    filter.add("TRK-" + (offset + i));
+                }
+            }));
+        }
+        CompletableFuture.allOf(adders.toArray(CompletableFuture[]::new)).join();
+
+        assertThat(IntStream.range(0, 40_000).allMatch(i -> filter.mightContain("TRK-" + i))).isTrue();
+    }
+}
@@ -0,0 +1,111 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.impl;
+
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.projection.ShipmentSummary;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.response.ShipmentPageResponse;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.entities.type.ShipmentStatus;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.events.ShipmentEventPublisher;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.repository.ShipmentRepository;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.cache.ShipmentTrackingCache;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.location.LocationHistory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ShipmentServiceImplCursorTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private ShipmentRepository shipmentRepository;
+    @Mock
+    private ShipmentEventPublisher shipmentEventPublisher;
+    @Mock
+    private LocationHistory locationHistory;
+    @Mock
+    private ShipmentTrackingCache shipmentTrackingCache;
+
+    @InjectMocks
+    private ShipmentServiceImpl shipmentService;
+
+    @Test
+    void statusCursorRoundTripsTheEtaAndId() {
+        when(shipmentRepository.findPageByStatus(eq(ShipmentStatus.IN_TRANSIT), isNull(), isNull(), isNull(), isNull(),
+                any(Limit.class)))
+                .thenReturn(List.of(summary(3L, T0, T0), summary(8L, T0.plusSeconds(60), T0)));
+
+        ShipmentPageResponse first = shipmentService.getPageByStatus(ShipmentStatus.IN_TRANSIT, null, null, null, 1);
+
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(first.getNextCursor()).isEqualTo("2026-01-01T00:00:00Z_3");
+
+        shipmentService.getPageByStatus(ShipmentStatus.IN_TRANSIT, null, null, first.getNextCursor(), 1);
+
+        verify(shipmentRepository).findPageByStatus(ShipmentStatus.IN_TRANSIT, null, null, T0, 3L, Limit.of(2));
+    }
+
+    @Test
+    void statusCursorCarriesAMissingEtaAsAnEmptyPrefix() {
+        when(shipmentRepository.findPageByStatus(eq(ShipmentStatus.IN_TRANSIT), isNull(), isNull(), isNull(), isNull(),
+                any(Limit.class)))
+                .thenReturn(List.of(summary(3L, null, T0)));
+
+        ShipmentPageResponse first = shipmentService.getPageByStatus(ShipmentStatus.IN_TRANSIT, null, null, null, 5);
+
+        assertThat(first.getNextCursor()).isEqualTo("_3");
+
+        shipmentService.getPageByStatus(ShipmentStatus.IN_TRANSIT, null, null, "_3", 5);
+
+        verify(shipmentRepository).findPageByStatus(ShipmentStatus.IN_TRANSIT, null, null, null, 3L, Limit.of(6));
+    }
+
+    @Test
+    void createdAtCursorRoundTripsTheTimestampAndId() {
+        when(shipmentRepository.findPageByCreatedAt(isNull(), isNull(), isNull(), isNull(), any(Limit.class)))
+                .thenReturn(List.of(summary(9L, null, T0), summary(4L, null, T0.minusSeconds(1))));
+
+        ShipmentPageResponse first = shipmentService.getPageByCreatedAt(null, null, null, 1);
+
+        assertThat(first.getNextCursor()).isEqualTo("2026-01-01T00:00:00Z_9");
+
+        shipmentService.getPageByCreatedAt(null, null, first.getNextCursor(), 1);
+
+        verify(shipmentRepository).findPageByCreatedAt(null, null, T0, 9L, Limit.of(2));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"garbage", "2026-01-01T00:00:00Z", "2026-01-01T00:00:00Z_x", "yesterday_5"})
+    void malformedCreatedAtCursorsAreRejected(String cursor) {
+        assertThatThrownBy(() -> shipmentService.getPageByCreatedAt(null, null, cursor, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor: " + cursor);
+    }
+
+    @Test
+    void malformedDestinationCursorIsRejected() {
+        assertThatThrownBy(() -> shipmentService.getPageByDestination("Paris", "abc", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor: abc");
+    }
+
+    private static ShipmentSummary summary(Long id, Instant estimatedDelivery, Instant createdAt) {
+        return new ShipmentSummary(id, 1L, "TRK-" + id, "Lyon", "Paris", "Lyon", ShipmentStatus.IN_TRANSIT,
+                estimatedDelivery, createdAt, createdAt);
+    }
+}
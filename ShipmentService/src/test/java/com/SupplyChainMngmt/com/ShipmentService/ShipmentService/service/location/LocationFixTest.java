@@ -0,0 +1,29 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.location;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocationFixTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    void newerKeepsTheLaterFixInEitherOrder() {
+        LocationFix earlier = new LocationFix("Lyon", T0);
+        LocationFix later = new LocationFix("Paris", T0.plusSeconds(30));
+
+        assertThat(earlier.newer(later)).isSameAs(later);
+        assertThat(later.newer(earlier)).isSameAs(later);
+    }
+
+    @Test
+    void newerKeepsTheCurrentFixOnATie() {
+        LocationFix current = new LocationFix("Lyon", T0);
+        LocationFix replay = new LocationFix("Paris", T0);
+
+        assertThat(current.newer(replay)).isSameAs(current);
+    }
+}
@@ -0,0 +1,72 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.location;
+
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.repository.LocationHistoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LocationHistoryTest {
+
+    private static final LocalDate DAY_1 = LocalDate.parse("2026-01-01");
+    private static final LocalDate DAY_2 = LocalDate.parse("2026-01-02");
+
+    @Mock
+    private LocationHistoryRepository locationHistoryRepository;
+
+    private LocationHistory history;
+
+    @BeforeEach
+    void setUp() {
+        history = new LocationHistory(locationHistoryRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(history, "maxPoints", 100);
+    }
+
+    @Test
+    void readsDayTablesCreatedByAnotherReplica() {
+        when(locationHistoryRepository.findDays()).thenReturn(List.of(DAY_1), List.of(DAY_1, DAY_2));
+        history.refreshDays();
+
+        history.read(1L, Instant.parse("2026-01-01T12:00:00Z"), Instant.parse("2026-01-02T12:00:00Z"));
+
+        verify(locationHistoryRepository).findTrack(eq(DAY_1), eq(1L), any(Instant.class), any(Instant.class), anyInt());
+        verify(locationHistoryRepository).findTrack(eq(DAY_2), eq(1L), any(Instant.class), any(Instant.class), anyInt());
+    }
+
+    @Test
+    void skipsTheRefreshWhenEveryQueriedDayIsKnown() {
+        when(locationHistoryRepository.findDays()).thenReturn(List.of(DAY_1, DAY_2));
+        history.refreshDays();
+
+        history.read(1L, Instant.parse("2026-01-01T12:00:00Z"), Instant.parse("2026-01-02T12:00:00Z"));
+
+        verify(locationHistoryRepository, times(1)).findDays();
+    }
+
+    @Test
+    void forgetsDayTablesDroppedByAnotherReplica() {
+        when(locationHistoryRepository.findDays()).thenReturn(List.of(DAY_1, DAY_2), List.of(DAY_2));
+        history.refreshDays();
+
+        history.refreshDays();
+        history.read(1L, Instant.parse("2026-01-02T00:00:00Z"), Instant.parse("2026-01-02T12:00:00Z"));
+
+        verify(locationHistoryRepository, never()).findTrack(eq(DAY_1), any(), any(), any(), anyInt());
+    }
+}
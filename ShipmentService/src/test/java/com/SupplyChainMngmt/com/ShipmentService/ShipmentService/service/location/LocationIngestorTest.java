@@ -0,0 +1,138 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.location;
+
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.request.LocationPingRequest;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.events.ShipmentEventPublisher;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.repository.ShipmentBatchRepository;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.repository.ShipmentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LocationIngestorTest {
+
+    @Mock
+    private ShipmentBatchRepository shipmentBatchRepository;
+    @Mock
+    private ShipmentRepository shipmentRepository;
+    @Mock
+    private ShipmentEventPublisher shipmentEventPublisher;
+    @Mock
+    private LocationHistory locationHistory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LocationIngestor ingestor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ingestor = new LocationIngestor(shipmentBatchRepository, shipmentRepository, shipmentEventPublisher,
+                locationHistory, meterRegistry);
+        ReflectionTestUtils.setField(ingestor, "eventWindowMs", 30_000L);
+        ReflectionTestUtils.setField(ingestor, "maxClockSkewMs", 300_000L);
+    }
+
+    @Test
+    void rejectsLocationsWiderThanTheColumn() {
+        assertThat(ingestor.accept(ping(1L, "x".repeat(LocationIngestor.MAX_LOCATION_LENGTH + 1), null))).isFalse();
+        assertThat(ingestor.accept(ping(1L, "x".repeat(LocationIngestor.MAX_LOCATION_LENGTH), null))).isTrue();
+
+        assertThat(rows("rejected", "shipment.location.pings")).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsPingsStampedBeyondTheAllowedSkew() {
+        Instant now = Instant.now();
+
+        assertThat(ingestor.accept(ping(1L, "Lyon", now.plusSeconds(3600)))).isFalse();
+        assertThat(ingestor.accept(ping(1L, "Lyon", now.plusSeconds(60)))).isTrue();
+
+        verify(locationHistory, never()).append(eq(1L), eq(new LocationFix("Lyon", now.plusSeconds(3600))));
+        assertThat(rows("rejected", "shipment.location.pings")).isEqualTo(1);
+    }
+
+    @Test
+    void recordsHistoryOnlyForShipmentsTheBatchWrote() {
+        when(shipmentBatchRepository.updateLocations(anyList(), any(Instant.class))).thenReturn(new int[]{1, 0});
+        Instant recordedAt = Instant.now();
+        ingestor.accept(ping(1L, "Lyon", recordedAt));
+        ingestor.accept(ping(404L, "Paris", recordedAt));
+        verify(locationHistory, never()).append(anyLong(), any(LocationFix.class));
+
+        assertThat(ingestor.flush()).isEqualTo(1);
+
+        verify(locationHistory).append(1L, new LocationFix("Lyon", recordedAt));
+        verify(locationHistory, never()).append(eq(404L), any(LocationFix.class));
+    }
+
+    @Test
+    void dropsOnlyTheRowTheDatabaseRefusesWhenABatchFails() {
+        when(shipmentBatchRepository.updateLocations(anyList(), any(Instant.class)))
+                .thenThrow(new DataIntegrityViolationException("batch"));
+        when(shipmentBatchRepository.updateLocation(anyLong(), any(LocationFix.class), any(Instant.class)))
+                .thenAnswer(invocation -> {
+                    if (invocation.<Long>getArgument(0) == 2L) {
+                        throw new DataIntegrityViolationException("row");
+                    }
+                    return 1;
+                });
+        ingestor.accept(ping(1L, "Lyon", null));
+        ingestor.accept(ping(2L, "Paris", null));
+        ingestor.accept(ping(3L, "Nice", null));
+
+        assertThat(ingestor.flush()).isEqualTo(2);
+
+        assertThat(rows("written", "shipment.location.rows")).isEqualTo(2);
+        assertThat(rows("failed", "shipment.location.rows")).isEqualTo(1);
+        assertThat(rows("skipped", "shipment.location.rows")).isZero();
+        // Nothing is left pending for the next flush.
+        assertThat(ingestor.flush()).isZero();
+    }
+
+    @Test
+    void requeuesTheUnwrittenRowsWhenTheDatabaseIsUnavailable() {
+        when(shipmentBatchRepository.updateLocations(anyList(), any(Instant.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(new int[]{1, 1});
+        when(shipmentBatchRepository.updateLocation(anyLong(), any(LocationFix.class), any(Instant.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        ingestor.accept(ping(1L, "Lyon", null));
+        ingestor.accept(ping(2L, "Paris", null));
+
+        assertThat(ingestor.flush()).isZero();
+        assertThat(rows("failed", "shipment.location.rows")).isZero();
+
+        assertThat(ingestor.flush()).isEqualTo(2);
+    }
+
+    private double rows(String result, String name) {
+        return meterRegistry.counter(name, "result", result).count();
+    }
+
+    private static LocationPingRequest ping(Long shipmentId, String location, Instant recordedAt) {
+        LocationPingRequest ping = new LocationPingRequest();
+        ping.setShipmentId(shipmentId);
+        ping.setCurrentLocation(location);
+        ping.setRecordedAt(recordedAt);
+        return ping;
+    }
+}
@@ -0,0 +1,128 @@
+package com.SupplyChainMngmt.com.ShipmentService.ShipmentService.service.sla;
+
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.dto.projection.ShipmentSlaView;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.entities.type.ShipmentStatus;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.events.ShipmentEventPublisher;
+import com.SupplyChainMngmt.com.ShipmentService.ShipmentService.repository.ShipmentBatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SlaEvaluatorTest {
+
+    private static final Duration GRACE = Duration.ofMinutes(15);
+    private static final Duration SILENCE = Duration.ofHours(6);
+
+    @Mock
+    private ShipmentBatchRepository shipmentBatchRepository;
+    @Mock
+    private ShipmentEventPublisher shipmentEventPublisher;
+
+    private SlaEvaluator evaluator;
+
+    @BeforeEach
+    void setUp() {
+        evaluator = new SlaEvaluator(shipmentBatchRepository, shipmentEventPublisher, new SimpleMeterRegistry(), 1);
+        ReflectionTestUtils.setField(evaluator, "chunkSize", 2);
+        ReflectionTestUtils.setField(evaluator, "graceMs", GRACE.toMillis());
+        ReflectionTestUtils.setField(evaluator, "silenceMs", SILENCE.toMillis());
+    }
+
+    @AfterEach
+    void tearDown() {
+        evaluator.shutdown();
+    }
+
+    @Test
+    void delaysShipmentsPastTheirGraceOrSilentTooLong() {
+        Instant now = Instant.now();
+        ShipmentSlaView withinGrace = view(1L, now.minus(GRACE).plusSeconds(60), now);
+        ShipmentSlaView pastGrace = view(2L, now.minus(GRACE).minusSeconds(60), now);
+        ShipmentSlaView silent = view(3L, now.plusSeconds(3600), now.minus(SILENCE).minusSeconds(60));
+        ShipmentSlaView recentlySeen = view(4L, now.plusSeconds(3600), now.minus(SILENCE).plusSeconds(60));
+        noCandidates(ShipmentStatus.PICKED_UP);
+        when(shipmentBatchRepository.findSlaCandidates(eq(ShipmentStatus.IN_TRANSIT), any(Instant.class), isNull(), eq(2)))
+                .thenReturn(List.of(withinGrace, pastGrace));
+        when(shipmentBatchRepository.findSlaCandidates(eq(ShipmentStatus.IN_TRANSIT), any(Instant.class), eq(pastGrace), eq(2)))
+                .thenReturn(List.of(silent, recentlySeen));
+        when(shipmentBatchRepository.transitionStatus(any(), eq(ShipmentStatus.IN_TRANSIT), eq(ShipmentStatus.DELAYED),
+                any(Instant.class))).thenAnswer(invocation -> new int[invocation.<List<Long>>getArgument(0).size()]);
+
+        evaluator.evaluate();
+
+        verify(shipmentBatchRepository).transitionStatus(eq(List.of(2L)), eq(ShipmentStatus.IN_TRANSIT),
+                eq(ShipmentStatus.DELAYED), any(Instant.class));
+        verify(shipmentBatchRepository).transitionStatus(eq(List.of(3L)), eq(ShipmentStatus.IN_TRANSIT),
+                eq(ShipmentStatus.DELAYED), any(Instant.class));
+    }
+
+    @Test
+    void readsEachStatusUntilAShortChunk() {
+        Instant now = Instant.now();
+        ShipmentSlaView first = view(1L, now.plusSeconds(60), now);
+        ShipmentSlaView second = view(2L, now.plusSeconds(120), now);
+        when(shipmentBatchRepository.findSlaCandidates(eq(ShipmentStatus.PICKED_UP), any(Instant.class), isNull(), eq(2)))
+                .thenReturn(List.of(first, second));
+        when(shipmentBatchRepository.findSlaCandidates(eq(ShipmentStatus.PICKED_UP), any(Instant.class), eq(second), eq(2)))
+                .thenReturn(List.of(view(3L, now.plusSeconds(180), now)));
+        noCandidates(ShipmentStatus.IN_TRANSIT);
+
+        assertThat(evaluator.evaluate()).isZero();
+
+        verify(shipmentBatchRepository, times(2))
+                .findSlaCandidates(eq(ShipmentStatus.PICKED_UP), any(Instant.class), any(), anyInt());
+        // An empty first chunk ends the status without another read.
+        verify(shipmentBatchRepository, times(1))
+                .findSlaCandidates(eq(ShipmentStatus.IN_TRANSIT), any(Instant.class), any(), anyInt());
+        verify(shipmentBatchRepository, never()).transitionStatus(any(), any(), any(), any());
+    }
+
+    @Test
+    void announcesOnlyTheShipmentsItMoved() {
+        Instant now = Instant.now();
+        ShipmentSlaView moved = view(1L, now.minus(Duration.ofDays(1)), now);
+        ShipmentSlaView movedElsewhere = view(2L, now.minus(Duration.ofDays(1)), now);
+        noCandidates(ShipmentStatus.PICKED_UP);
+        when(shipmentBatchRepository.findSlaCandidates(eq(ShipmentStatus.IN_TRANSIT), any(Instant.class), isNull(), eq(2)))
+                .thenReturn(List.of(moved, movedElsewhere));
+        when(shipmentBatchRepository.findSlaCandidates(eq(ShipmentStatus.IN_TRANSIT), any(Instant.class), eq(movedElsewhere), eq(2)))
+                .thenReturn(List.of());
+        when(shipmentBatchRepository.transitionStatus(eq(List.of(1L, 2L)), eq(ShipmentStatus.IN_TRANSIT),
+                eq(ShipmentStatus.DELAYED), any(Instant.class))).thenReturn(new int[]{1, 0});
+
+        assertThat(evaluator.evaluate()).isEqualTo(1);
+
+        verify(shipmentEventPublisher).publishShipmentStatusUpdated(eq(moved), eq(ShipmentStatus.DELAYED), any(Instant.class));
+        verify(shipmentEventPublisher, never())
+                .publishShipmentStatusUpdated(eq(movedElsewhere), any(), any());
+    }
+
+    private void noCandidates(ShipmentStatus status) {
+        when(shipmentBatchRepository.findSlaCandidates(eq(status), any(Instant.class), isNull(), eq(2))).thenReturn(List.of());
+    }
+
+    private static ShipmentSlaView view(Long id, Instant estimatedDelivery, Instant lastSeenAt) {
+        return new ShipmentSlaView(id, 100L + id, "TRK-" + id, "Lyon", "Paris", ShipmentStatus.IN_TRANSIT,
+                estimatedDelivery, lastSeenAt, lastSeenAt);
+    }
+}